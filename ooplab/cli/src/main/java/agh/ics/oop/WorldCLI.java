@@ -0,0 +1,60 @@
+package agh.ics.oop;
+
+import agh.ics.oop.model.configuration.ConfigurationValidator;
+import agh.ics.oop.model.exceptions.LoadConfigurationException;
+import agh.ics.oop.model.exceptions.WrongConfigurationParameterException;
+import agh.ics.oop.model.repository.BinaryDeathRecordRepositoryAdapter;
+import agh.ics.oop.model.repository.CsvStatisticsRepositoryAdapter;
+import agh.ics.oop.model.repository.JsonConfigurationRepositoryAdapter;
+
+import java.io.IOException;
+
+/**
+ * Runs simulations without the graphical interface.
+ * <p>
+ * Usage: {@code WorldCLI <configurationName> [configurationDirectory] [statisticsDirectory] [runsCount]}
+ * <p>
+ * The configuration is loaded from {@code <configurationDirectory>/<configurationName>.json} and every run
+ * writes its statistics history to a separate CSV file in the statistics directory. When the configuration enables
+ * {@code saveDeathRecords}, binary death records are written next to it.
+ */
+public class WorldCLI {
+    private static final String DEFAULT_CONFIGURATION_DIRECTORY = "configuration";
+    private static final String DEFAULT_STATISTICS_DIRECTORY = "statistics";
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: WorldCLI <configurationName> [configurationDirectory] [statisticsDirectory] [runsCount]");
+            System.exit(1);
+        }
+
+        var configurationName = args[0];
+        var configurationDirectory = args.length > 1 ? args[1] : DEFAULT_CONFIGURATION_DIRECTORY;
+        var statisticsDirectory = args.length > 2 ? args[2] : DEFAULT_STATISTICS_DIRECTORY;
+        var runsCount = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+
+        try {
+            var configuration = new JsonConfigurationRepositoryAdapter(configurationDirectory).loadConfiguration(configurationName);
+            new ConfigurationValidator().validate(configuration);
+
+            for (int i = 0; i < runsCount; i++) {
+                var startTime = System.nanoTime();
+                var deathRecordRepository = configuration.getSimulationConfiguration().isSaveDeathRecords()
+                        ? new BinaryDeathRecordRepositoryAdapter(statisticsDirectory)
+                        : null;
+                var runner = new HeadlessSimulationRunner(configuration, new CsvStatisticsRepositoryAdapter(statisticsDirectory),
+                        deathRecordRepository);
+                var simulationContext = runner.run();
+                var elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+                System.out.printf("Run %d/%d finished: mapId=%s, days=%d, time=%d ms%n", i + 1, runsCount,
+                        simulationContext.getWorldMap().getId(), simulationContext.getStatistics().getCurrentDay(), elapsedMillis);
+            }
+        } catch (LoadConfigurationException | WrongConfigurationParameterException e) {
+            System.err.println("Couldn't start simulation, e=" + e.getMessage());
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Couldn't write statistics, e=" + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package agh.ics.oop;
+
+import agh.ics.oop.model.configuration.AnimalConfiguration;
+import agh.ics.oop.model.configuration.Configuration;
+import agh.ics.oop.model.configuration.DayStepVariant;
+import agh.ics.oop.model.configuration.MutationVariant;
+import agh.ics.oop.model.configuration.PlantVariant;
+import agh.ics.oop.model.configuration.SimulationConfiguration;
+import agh.ics.oop.model.configuration.StatisticsVariant;
+import agh.ics.oop.model.configuration.WorldMapConfiguration;
+import agh.ics.oop.model.configuration.WorldMapVariant;
+
+/**
+ * Seeded configurations shared by the benchmarks, so every run simulates the same worlds.
+ */
+public final class BenchmarkConfigurations {
+    public static final long SEED = 42L;
+
+    private BenchmarkConfigurations() {
+    }
+
+    public static AnimalConfiguration animalConfiguration() {
+        return AnimalConfiguration.builder()
+                .startEnergy(50)
+                .minimumMutationCount(0)
+                .maximumMutationCount(2)
+                .wellFedEnergy(20)
+                .lossCopulateEnergy(10)
+                .mutationVariant(MutationVariant.FULL_RANDOM)
+                .genomeLength(16)
+                .build();
+    }
+
+    /**
+     * Square world with {@code density} animals per field at start, plants growing on a tenth of the fields daily.
+     */
+    public static Configuration world(int size, double density, WorldMapVariant mapVariant, DayStepVariant dayStep,
+                                      StatisticsVariant statisticsVariant) {
+        var fields = size * size;
+        var worldMapConfiguration = WorldMapConfiguration.builder()
+                .width(size)
+                .height(size)
+                .energyGain(10)
+                .plantGrowth(Math.max(1, fields / 10))
+                .startPlantCount(fields / 4)
+                .fireFrequency(mapVariant == WorldMapVariant.FIRE ? 5 : 0)
+                .fireDuration(mapVariant == WorldMapVariant.FIRE ? 3 : 0)
+                .mapVariant(mapVariant)
+                .plantVariant(PlantVariant.FORESTED_EQUATORS)
+                .build();
+
+        var simulationConfiguration = SimulationConfiguration.builder()
+                .daysCount(Integer.MAX_VALUE)
+                .startAnimalCount((int) (fields * density))
+                .dayStep(dayStep)
+                .statisticsVariant(statisticsVariant)
+                .seed(SEED)
+                .build();
+
+        return Configuration.builder()
+                .worldMapConfiguration(worldMapConfiguration)
+                .animalConfiguration(animalConfiguration())
+                .simulationConfiguration(simulationConfiguration)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package agh.ics.oop;
+
+import agh.ics.oop.model.configuration.DayStepVariant;
+import agh.ics.oop.model.configuration.StatisticsVariant;
+import agh.ics.oop.model.configuration.WorldMapVariant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulated days per second of {@link SimulationContext#handleDayEnds()}. Every iteration starts from a fresh world
+ * built from the same seed, so iterations measure the same stretch of the simulation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DayStepBenchmark {
+
+    @Param({"50", "200", "500"})
+    private int size;
+
+    @Param({"0.05", "0.5"})
+    private double density;
+
+    @Param({"EARTH", "FIRE"})
+    private WorldMapVariant mapVariant;
+
+    @Param({"SEQUENTIAL", "PARALLEL"})
+    private DayStepVariant dayStep;
+
+    private SimulationContext simulationContext;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        simulationContext = new SimulationContext(
+                BenchmarkConfigurations.world(size, density, mapVariant, dayStep, StatisticsVariant.INCREMENTAL));
+    }
+
+    @Benchmark
+    public int handleDayEnds() {
+        simulationContext.handleDayEnds();
+        return simulationContext.getStatistics().getAnimalCount();
+    }
+}
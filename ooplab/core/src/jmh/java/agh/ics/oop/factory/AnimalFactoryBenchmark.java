@@ -0,0 +1,60 @@
+package agh.ics.oop.factory;
+
+import agh.ics.oop.BenchmarkConfigurations;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.configuration.LineageRetention;
+import agh.ics.oop.model.elements.Animal;
+import agh.ics.oop.model.elements.LineageStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Birth of a single child: crossover, mutation and lineage bookkeeping. Children are retired right away and parents
+ * are refed, so the lineage store and the parents stay the same size across invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimalFactoryBenchmark {
+
+    @Param({"FULL", "AGGREGATES_ONLY"})
+    private LineageRetention lineageRetention;
+
+    private LineageStore lineageStore;
+    private AnimalFactory factory;
+    private Animal parent1;
+    private Animal parent2;
+
+    @Setup
+    public void setUp() {
+        lineageStore = new LineageStore(lineageRetention, 10);
+        factory = new AnimalFactory(BenchmarkConfigurations.animalConfiguration(), lineageStore,
+                new SplittableRandom(BenchmarkConfigurations.SEED));
+        parent1 = factory.createAnimal(new Vector2d(0, 0), 1);
+        parent2 = factory.createAnimal(new Vector2d(0, 0), 1);
+    }
+
+    @Benchmark
+    public Animal birthAnimal() {
+        var child = factory.birthAnimal(parent1, parent2, 1);
+        lineageStore.retire(child);
+        parent1.eat(() -> BenchmarkConfigurations.animalConfiguration().getLossCopulateEnergy());
+        parent2.eat(() -> BenchmarkConfigurations.animalConfiguration().getLossCopulateEnergy());
+        return child;
+    }
+}
@@ -0,0 +1,58 @@
+package agh.ics.oop.model.map.fire;
+
+import agh.ics.oop.BenchmarkConfigurations;
+import agh.ics.oop.model.Boundary;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.elements.Fire;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collecting the fires spreading from a growing number of burning fields, with every neighbour accepted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FireSpreaderBenchmark {
+    private static final int SIZE = 200;
+
+    @Param({"10", "100", "1000"})
+    private int fireCount;
+
+    private final Boundary boundary = new Boundary(new Vector2d(0, 0), new Vector2d(SIZE - 1, SIZE - 1));
+    private FireSpreader fireSpreader;
+    private List<Fire> fires;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(BenchmarkConfigurations.SEED);
+        fireSpreader = new FireSpreader(3, random.split());
+        fires = new ArrayList<>(fireCount);
+        for (int i = 0; i < fireCount; i++) {
+            fires.add(new Fire(new Vector2d(random.nextInt(SIZE), random.nextInt(SIZE)), 3));
+        }
+    }
+
+    @Benchmark
+    public Set<Fire> getSpreadFires() {
+        return fireSpreader.getSpreadFires(fires, boundary, position -> true);
+    }
+}
@@ -0,0 +1,69 @@
+package agh.ics.oop.model.map.plant;
+
+import agh.ics.oop.BenchmarkConfigurations;
+import agh.ics.oop.factory.AnimalFactory;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.configuration.LineageRetention;
+import agh.ics.oop.model.configuration.PlantVariant;
+import agh.ics.oop.model.elements.LineageStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moving every animal of an {@link Earth} once, and resolving eating and breeding in its occupied cells, with a
+ * growing number of animals per cell. Both operations change the world, so every invocation starts from a fresh one
+ * built from the same seed, and each of them measures the same population and plant layout.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EarthBenchmark {
+    private static final int SIZE = 100;
+
+    @Param({"1", "4", "16"})
+    private int animalsPerCell;
+
+    private Earth earth;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        var random = new SplittableRandom(BenchmarkConfigurations.SEED);
+        var factory = new AnimalFactory(BenchmarkConfigurations.animalConfiguration(),
+                new LineageStore(LineageRetention.AGGREGATES_ONLY, 1), random.split());
+        earth = new Earth(SIZE, SIZE, 0, SIZE * SIZE / 2, 10, PlantVariant.FORESTED_EQUATORS,
+                (parent1, parent2) -> factory.birthAnimal(parent1, parent2, 1), random.split());
+        for (int i = 0; i < SIZE * SIZE * animalsPerCell; i++) {
+            earth.tryPlace(factory.createAnimal(new Vector2d(random.nextInt(SIZE), random.nextInt(SIZE)), 1));
+        }
+    }
+
+    @Benchmark
+    public Earth moveAll() {
+        earth.clearDeadAndMoveAnimals(animal -> {
+        }, animal -> {
+        });
+        return earth;
+    }
+
+    @Benchmark
+    public Earth resolveCells() {
+        earth.handleDayEnds(1);
+        return earth;
+    }
+}
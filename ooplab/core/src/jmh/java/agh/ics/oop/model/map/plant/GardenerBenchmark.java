@@ -0,0 +1,58 @@
+package agh.ics.oop.model.map.plant;
+
+import agh.ics.oop.BenchmarkConfigurations;
+import agh.ics.oop.model.Boundary;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.configuration.PlantVariant;
+import agh.ics.oop.model.elements.Plant;
+import agh.ics.oop.model.util.FreeCellIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Daily plant growth on maps of growing size. The drawn cells are returned to the index after every invocation,
+ * so each one draws from the same amount of free cells.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GardenerBenchmark {
+
+    @Param({"50", "200", "1000"})
+    private int size;
+
+    private Gardener gardener;
+    private FreeCellIndex freeCells;
+
+    @Setup
+    public void setUp() {
+        var boundary = new Boundary(new Vector2d(0, 0), new Vector2d(size - 1, size - 1));
+        gardener = new Gardener(PlantVariant.FORESTED_EQUATORS, size * size / 10, 10,
+                new SplittableRandom(BenchmarkConfigurations.SEED));
+        freeCells = new FreeCellIndex(size, size, Gardener.getPreferredArea(PlantVariant.FORESTED_EQUATORS, boundary));
+    }
+
+    @Benchmark
+    public int createPlantsDaily() {
+        var plants = gardener.createPlantsDaily(freeCells);
+        for (Plant plant : plants) {
+            freeCells.markFree(plant.getPosition());
+        }
+        return plants.size();
+    }
+}
@@ -0,0 +1,85 @@
+package agh.ics.oop.model.map.simulation;
+
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.elements.Animal;
+import agh.ics.oop.model.util.AnimalComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares picking the eater and the breeding pair of every occupied cell with the former per-cell stream sort
+ * against the single scan of {@link CellSelection}, on worlds with a growing number of animals per cell.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CellSelectionBenchmark {
+    private static final int SIZE = 50;
+
+    @Param({"2", "8", "32"})
+    private int animalsPerCell;
+
+    private final AnimalComparator comparator = new AnimalComparator();
+    private final CellSelection selection = new CellSelection(comparator);
+    private AnimalGrid grid;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        grid = new AnimalGrid(SIZE, SIZE);
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                for (int i = 0; i < animalsPerCell; i++) {
+                    grid.add(Animal.builder()
+                            .energy(1 + random.nextInt(30))
+                            .position(new Vector2d(x, y))
+                            .wellFedEnergy(15)
+                            .startDay(random.nextInt(10))
+                            .build());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void sortPerCell(Blackhole blackhole) {
+        for (int slot = 0; slot < grid.getOccupiedCellsCount(); slot++) {
+            var animals = grid.animalsAt(grid.getOccupiedCell(slot));
+            Optional<Animal> eater = animals.stream().max(comparator);
+            var breeders = animals.stream()
+                    .filter(Animal::canMakeChild)
+                    .sorted(comparator.reversed())
+                    .limit(2)
+                    .toList();
+            blackhole.consume(eater);
+            blackhole.consume(breeders);
+        }
+    }
+
+    @Benchmark
+    public void scanPerCell(Blackhole blackhole) {
+        for (int slot = 0; slot < grid.getOccupiedCellsCount(); slot++) {
+            selection.resolve(grid, grid.getOccupiedCell(slot));
+            blackhole.consume(selection.getStrongest());
+            blackhole.consume(selection.getFirstBreeder());
+            blackhole.consume(selection.getSecondBreeder());
+        }
+    }
+}
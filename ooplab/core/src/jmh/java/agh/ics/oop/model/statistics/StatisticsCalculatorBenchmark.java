@@ -0,0 +1,66 @@
+package agh.ics.oop.model.statistics;
+
+import agh.ics.oop.BenchmarkConfigurations;
+import agh.ics.oop.SimulationContext;
+import agh.ics.oop.model.configuration.DayStepVariant;
+import agh.ics.oop.model.configuration.StatisticsVariant;
+import agh.ics.oop.model.configuration.WorldMapVariant;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computing the statistics of a world after a number of simulated days, by full scan in
+ * {@link SimulationStatisticsCalculator} and from the counters kept by {@link IncrementalStatisticsCalculator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsCalculatorBenchmark {
+    private static final int WARM_UP_DAYS = 50;
+
+    @Param({"50", "200"})
+    private int size;
+
+    @Param({"FULL_SCAN", "INCREMENTAL"})
+    private StatisticsVariant statisticsVariant;
+
+    private StatisticsCalculator calculator;
+
+    @Setup
+    public void setUp() {
+        var simulationContext = new SimulationContext(BenchmarkConfigurations.world(size, 0.25, WorldMapVariant.EARTH,
+                DayStepVariant.SEQUENTIAL, StatisticsVariant.INCREMENTAL));
+        for (int day = 0; day < WARM_UP_DAYS; day++) {
+            simulationContext.handleDayEnds();
+        }
+        calculator = statisticsVariant == StatisticsVariant.FULL_SCAN
+                ? new SimulationStatisticsCalculator(simulationContext)
+                : simulationContext.getStatisticsCalculator();
+    }
+
+    @Benchmark
+    public void calculate(Blackhole blackhole) {
+        blackhole.consume(calculator.getAnimalCount());
+        blackhole.consume(calculator.getPlantCount());
+        blackhole.consume(calculator.getEmptyFieldsCount());
+        blackhole.consume(calculator.getAverageAnimalEnergy());
+        blackhole.consume(calculator.getAverageAnimalCountOfChildren());
+        blackhole.consume(calculator.getAverageDeadAnimalTimeLife());
+        blackhole.consume(calculator.getMostPopularGenotypeFingerprint());
+    }
+}
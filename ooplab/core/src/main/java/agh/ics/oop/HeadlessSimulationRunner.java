@@ -0,0 +1,46 @@
+package agh.ics.oop;
+
+import agh.ics.oop.model.configuration.Configuration;
+import agh.ics.oop.model.repository.DeathRecordRepositoryPort;
+import agh.ics.oop.model.repository.StatisticsRepositoryPort;
+
+import java.io.IOException;
+
+public class HeadlessSimulationRunner {
+    private final Configuration configuration;
+    private final StatisticsRepositoryPort statisticsRepository;
+    private final DeathRecordRepositoryPort deathRecordRepository;
+
+    public HeadlessSimulationRunner(Configuration configuration, StatisticsRepositoryPort statisticsRepository,
+                                    DeathRecordRepositoryPort deathRecordRepository) {
+        this.configuration = configuration;
+        this.statisticsRepository = statisticsRepository;
+        this.deathRecordRepository = deathRecordRepository;
+    }
+
+    public HeadlessSimulationRunner(Configuration configuration, StatisticsRepositoryPort statisticsRepository) {
+        this(configuration, statisticsRepository, null);
+    }
+
+    public SimulationContext run() throws IOException {
+        var simulationContext = new SimulationContext(configuration);
+        var simulationId = simulationContext.getWorldMap().getId().toString();
+        var daysCount = configuration.getSimulationConfiguration().getDaysCount();
+        simulationContext.setDeathRecordRepository(deathRecordRepository);
+
+        try {
+            for (int i = 0; i < daysCount; i++) {
+                simulationContext.handleDayEnds();
+                statisticsRepository.save(simulationContext.getSnapshot().getStatistics(), simulationId);
+            }
+        } finally {
+            statisticsRepository.close();
+            if (deathRecordRepository != null) {
+                deathRecordRepository.close();
+            }
+        }
+
+        simulationContext.notifySimulationFinished();
+        return simulationContext;
+    }
+}
@@ -0,0 +1,175 @@
+package agh.ics.oop;
+
+import agh.ics.oop.model.configuration.TickPolicy;
+import agh.ics.oop.model.configuration.TickPolicyVariant;
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A simulation seen as a resumable sequence of day steps. It can be driven step by step by the
+ * {@link SimulationEngine} scheduler, or run on its own (virtual) thread with {@link #run(Executor)}. Pausing uses
+ * a {@link ReentrantLock} rather than monitors, so a waiting virtual thread is never pinned to its carrier.
+ */
+public class Simulation implements Runnable {
+    private final int daysCount;
+    @Getter
+    private final SimulationContext simulationContext;
+    private volatile boolean paused = true;
+    private volatile boolean ended = false;
+    @Getter
+    private volatile int simulatedDays = 0;
+    @Getter
+    private volatile TickPolicy tickPolicy = TickPolicy.fixedRate(TickPolicy.DEFAULT_DAYS_PER_SECOND);
+    private volatile int fastForwardUntilDay = 0;
+    private Runnable resumeListener = () -> {};
+    private final Lock lock = new ReentrantLock();
+    private final Condition resumed = lock.newCondition();
+
+    public Simulation(SimulationContext simulationContext, int daysCount) {
+        this.simulationContext = simulationContext;
+        this.daysCount = daysCount;
+    }
+
+    @Override
+    public void run() {
+        run(Runnable::run);
+    }
+
+    /**
+     * Runs the simulation on the current thread, computing every day on the given executor. Waiting for a resume or
+     * for the next tick only parks the thread, so on a virtual thread it does not hold a carrier thread.
+     */
+    public void run(Executor dayExecutor) {
+        while (true) {
+            lock.lock();
+            try {
+                while (paused) {
+                    resumed.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            if (!CompletableFuture.supplyAsync(this::step, dayExecutor).join()) {
+                return;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(getDayPeriodNanos());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Simulates the next day, notifying the finished listeners after the last one. Does nothing while paused.
+     *
+     * @return whether there are days left to simulate
+     */
+    public boolean step() {
+        if (isFinished()) {
+            return false;
+        }
+        if (paused) {
+            return true;
+        }
+
+        simulationContext.handleDayEnds();
+        simulatedDays++;
+        if (simulatedDays == daysCount) {
+            simulationContext.notifySimulationFinished();
+            return false;
+        }
+        return true;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public boolean isFinished() {
+        return ended || simulatedDays >= daysCount;
+    }
+
+    /**
+     * Changes the tick policy, also while running. Fast forward counts its days from the current one.
+     */
+    public void setTickPolicy(TickPolicy tickPolicy) {
+        fastForwardUntilDay = simulatedDays + tickPolicy.fastForwardDays();
+        this.tickPolicy = tickPolicy;
+    }
+
+    /**
+     * Shorthand for a fixed rate policy, where a non-positive rate means no delay between days.
+     */
+    public void setDaysPerSecond(double daysPerSecond) {
+        setTickPolicy(daysPerSecond > 0 ? TickPolicy.fixedRate(daysPerSecond) : TickPolicy.turbo());
+    }
+
+    public long getDayPeriodNanos() {
+        var policy = tickPolicy;
+        if (policy.variant() == TickPolicyVariant.FAST_FORWARD && simulatedDays < fastForwardUntilDay) {
+            return 0;
+        }
+        return policy.dayPeriodNanos();
+    }
+
+    /**
+     * Registers a callback run on every resume, used by the scheduler to pick the simulation up again.
+     */
+    public void setResumeListener(Runnable resumeListener) {
+        lock.lock();
+        try {
+            this.resumeListener = resumeListener;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void pause() {
+        lock.lock();
+        try {
+            paused = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void resume() {
+        Runnable listener;
+        lock.lock();
+        try {
+            paused = false;
+            resumed.signalAll();
+            listener = resumeListener;
+        } finally {
+            lock.unlock();
+        }
+        listener.run();
+    }
+
+    public void end() {
+        Runnable listener;
+        lock.lock();
+        try {
+            ended = true;
+            paused = false;
+            resumed.signalAll();
+            listener = resumeListener;
+        } finally {
+            lock.unlock();
+        }
+        listener.run();
+    }
+
+}
@@ -0,0 +1,286 @@
+package agh.ics.oop;
+
+import agh.ics.oop.factory.AnimalFactory;
+import agh.ics.oop.factory.WorldMapFactory;
+import agh.ics.oop.listener.ChangedCellsCollector;
+import agh.ics.oop.listener.MapChangeListener;
+import agh.ics.oop.listener.SimulationFinishedListener;
+import agh.ics.oop.listener.SnapshotPublishedListener;
+import agh.ics.oop.listener.StatisticsChangeListener;
+import agh.ics.oop.model.AnimalBreeder;
+import agh.ics.oop.model.Boundary;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.configuration.AnimalStorageVariant;
+import agh.ics.oop.model.configuration.Configuration;
+import agh.ics.oop.model.configuration.DayStepVariant;
+import agh.ics.oop.model.configuration.StatisticsVariant;
+import agh.ics.oop.model.elements.Animal;
+import agh.ics.oop.model.elements.AnimalStore;
+import agh.ics.oop.model.elements.LineageStore;
+import agh.ics.oop.model.elements.WorldElement;
+import agh.ics.oop.model.map.AbstractWorldMap;
+import agh.ics.oop.model.map.simulation.SimulationWorldMap;
+import agh.ics.oop.model.repository.DeathRecordRepositoryPort;
+import agh.ics.oop.model.snapshot.AnimalDetails;
+import agh.ics.oop.model.snapshot.WorldSnapshot;
+import agh.ics.oop.model.statistics.DeathRecord;
+import agh.ics.oop.model.statistics.DeathStatistics;
+import agh.ics.oop.model.statistics.GraphData;
+import agh.ics.oop.model.statistics.IncrementalStatisticsCalculator;
+import agh.ics.oop.model.statistics.SimulationStatisticsCalculator;
+import agh.ics.oop.model.statistics.Statistics;
+import agh.ics.oop.model.statistics.StatisticsCalculator;
+import agh.ics.oop.model.statistics.StatisticsDataProvider;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.random.RandomGenerator;
+
+public class SimulationContext implements StatisticsDataProvider {
+    private final Configuration configuration;
+    private final AnimalFactory animalFactory;
+    @Getter
+    private final SimulationWorldMap worldMap;
+    private int currentDay;
+    private final DeathStatistics deathStatistics = new DeathStatistics();
+    private DeathRecordRepositoryPort deathRecordRepository;
+    @Getter
+    private final long seed;
+    private final RandomGenerator random;
+    private final List<SimulationFinishedListener> listeners = new ArrayList<>();
+    private final Statistics simulationStatistics = new Statistics();
+    @Getter
+    private final StatisticsCalculator statisticsCalculator;
+    private final StatisticsChangeListener statisticsListener;
+    private final AnimalStore animalStore;
+    private final LineageStore lineageStore;
+    private final ChangedCellsCollector changedCellsCollector = new ChangedCellsCollector();
+    private final WorldSnapshot.Builder snapshotBuilder = new WorldSnapshot.Builder();
+    private final AtomicReference<WorldSnapshot> snapshot = new AtomicReference<>();
+    private final List<SnapshotPublishedListener> snapshotListeners = new ArrayList<>();
+    private volatile Animal trackedAnimal;
+
+
+    public SimulationContext(Configuration configuration) {
+        this.configuration = configuration;
+        var simulationConfiguration = configuration.getSimulationConfiguration();
+        this.seed = simulationConfiguration.getSeed() != null ? simulationConfiguration.getSeed() : new SplittableRandom().nextLong();
+        var rootRandom = new SplittableRandom(seed);
+        this.random = rootRandom.split();
+        this.lineageStore = new LineageStore(simulationConfiguration.getLineageRetention(), simulationConfiguration.getLineageGenerations());
+        this.animalFactory = new AnimalFactory(configuration.getAnimalConfiguration(), lineageStore, rootRandom.split());
+        this.animalStore = simulationConfiguration.getAnimalStorage() == AnimalStorageVariant.STRUCT_OF_ARRAYS
+                ? new AnimalStore()
+                : null;
+        WorldMapFactory worldMapFactory = new WorldMapFactory(configuration.getWorldMapConfiguration(), new AnimalBreeder() {
+            @Override
+            public Animal breed(Animal parent1, Animal parent2) {
+                return breedAnimals(parent1, parent2);
+            }
+
+            @Override
+            public void discard(Animal child) {
+                discardAnimal(child);
+            }
+        }, rootRandom.split());
+        this.worldMap = worldMapFactory.createWorldMap();
+        if (simulationConfiguration.getStatisticsVariant() == StatisticsVariant.INCREMENTAL) {
+            var incrementalCalculator = new IncrementalStatisticsCalculator(calculateFieldsCount(worldMap.getCurrentBounds()), this);
+            this.statisticsCalculator = incrementalCalculator;
+            this.statisticsListener = incrementalCalculator;
+        } else {
+            this.statisticsCalculator = new SimulationStatisticsCalculator(this);
+            this.statisticsListener = StatisticsChangeListener.NONE;
+        }
+        worldMap.setStatisticsListener(statisticsListener);
+        setDayStepPool(ForkJoinPool.commonPool());
+        if (animalStore != null) {
+            animalStore.setStatisticsListener(statisticsListener);
+        }
+        currentDay = 1;
+
+        initAnimals();
+        addMapChangedListener(changedCellsCollector);
+        publishSnapshot(0);
+    }
+
+    public synchronized void handleDayEnds() {
+        handleAnimalsDayEnds();
+        worldMap.handleDayEnds(currentDay);
+        worldMap.sendDayHasEndedNotification(currentDay);
+        simulationStatistics.updateStatistics(currentDay, statisticsCalculator);
+        publishSnapshot(currentDay);
+        currentDay++;
+    }
+
+    /**
+     * The state of the world after the last simulated day. Safe to read from any thread, unlike the world map.
+     */
+    public WorldSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Sets the pool the parallel day step runs on. Contexts start with the common pool, and the
+     * {@link SimulationEngine} moves them onto its own step pool. Ignored unless the day step is parallel.
+     */
+    public void setDayStepPool(ForkJoinPool dayStepPool) {
+        if (configuration.getSimulationConfiguration().getDayStep() == DayStepVariant.PARALLEL) {
+            worldMap.setDayStepPool(dayStepPool);
+        }
+    }
+
+    public void addSnapshotPublishedListener(SnapshotPublishedListener listener) {
+        snapshotListeners.add(listener);
+    }
+
+    /**
+     * Includes the details of the given animal, or of none when {@code null}, in the next snapshots.
+     */
+    public void setTrackedAnimal(Animal trackedAnimal) {
+        this.trackedAnimal = trackedAnimal;
+    }
+
+    /**
+     * Takes the snapshot of the last simulated day again, so a newly tracked animal shows up while the simulation is
+     * paused. A day still being simulated is finished first, so the details are never read mid-step. The listeners
+     * are not notified, as no day has ended.
+     */
+    public synchronized WorldSnapshot refreshSnapshot() {
+        snapshot.set(takeSnapshot(currentDay - 1));
+        return snapshot.get();
+    }
+
+
+    public void addMapChangedListener(MapChangeListener listener) {
+        ((AbstractWorldMap) worldMap).addListener(listener);
+    }
+
+    public void addSimulationFinishedListener(SimulationFinishedListener simulationFinishedListener) {
+        listeners.add(simulationFinishedListener);
+    }
+
+    /**
+     * Streams a record of every animal dying from now on to the given repository. The caller stays responsible for
+     * closing it.
+     */
+    public void setDeathRecordRepository(DeathRecordRepositoryPort deathRecordRepository) {
+        this.deathRecordRepository = deathRecordRepository;
+    }
+
+    @Override
+    public DeathStatistics getDeathStatistics() {
+        return deathStatistics;
+    }
+
+    @Override
+    public Set<Animal> getAliveAnimals() {
+        return worldMap.getAnimals();
+    }
+
+    @Override
+    public Set<WorldElement> getMapElements() {
+        return (Set<WorldElement>) worldMap.getElements();
+    }
+
+    @Override
+    public Boundary getCurrentBoundary() {
+        return worldMap.getCurrentBounds();
+    }
+
+    public List<GraphData> getGraphData() {
+        return simulationStatistics.getHistory();
+    }
+
+    public Statistics getStatistics() {
+        return simulationStatistics;
+    }
+
+    void notifySimulationFinished() {
+        listeners.forEach(SimulationFinishedListener::onSimulationFinished);
+    }
+
+    private Animal breedAnimals(Animal parent1, Animal parent2) {
+        var child = animalFactory.birthAnimal(parent1, parent2, currentDay);
+        bindToStore(child);
+        return child;
+    }
+
+    private void discardAnimal(Animal animal) {
+        animal.unbind();
+        lineageStore.retire(animal);
+    }
+
+    private void initAnimals() {
+        var boundary = worldMap.getCurrentBounds();
+
+        for (int i = 0; i < configuration.getSimulationConfiguration().getStartAnimalCount(); i++) {
+            var animal = animalFactory.createAnimal(getRandomAnimalPosition(boundary), currentDay);
+            bindToStore(animal);
+            if (!worldMap.tryPlace(animal).isPlaced()) {
+                discardAnimal(animal);
+            }
+        }
+    }
+
+    private static int calculateFieldsCount(Boundary boundary) {
+        return (boundary.rightTopCorner().getX() + 1) * (boundary.rightTopCorner().getY() + 1);
+    }
+
+    private Vector2d getRandomAnimalPosition(Boundary boundary) {
+        var x = random.nextInt(boundary.rightTopCorner().getX() + 1);
+        var y = random.nextInt(boundary.rightTopCorner().getY() + 1);
+
+        return new Vector2d(x, y);
+    }
+
+    private void handleAnimalsDayEnds() {
+        if (animalStore == null) {
+            worldMap.clearDeadAndMoveAnimals(this::handleDeadAnimal, animal -> animal.decreaseEnergy(1));
+            return;
+        }
+
+        worldMap.clearDeadAndMoveAnimals(this::handleDeadAnimal, animal -> {
+        });
+        animalStore.decreaseEnergy(1);
+    }
+
+    private void publishSnapshot(int day) {
+        var published = takeSnapshot(day);
+        snapshot.set(published);
+        snapshotListeners.forEach(listener -> listener.onSnapshotPublished(published));
+    }
+
+    private WorldSnapshot takeSnapshot(int day) {
+        var tracked = trackedAnimal;
+        worldMap.writeSnapshot(snapshotBuilder.reset(worldMap.getCurrentBounds()));
+        return snapshotBuilder.build(
+                day,
+                simulationStatistics.copy(),
+                tracked != null ? AnimalDetails.of(tracked) : null,
+                changedCellsCollector.drain());
+    }
+
+    private void handleDeadAnimal(Animal animal) {
+        animal.setEndDay(currentDay);
+        animal.unbind();
+        lineageStore.retire(animal);
+        recordDeath(DeathRecord.of(animal));
+    }
+
+    private void recordDeath(DeathRecord deathRecord) {
+        deathStatistics.add(deathRecord);
+        if (deathRecordRepository != null) {
+            deathRecordRepository.save(deathRecord, worldMap.getId().toString());
+        }
+    }
+
+    private void bindToStore(Animal animal) {
+        if (animalStore != null) {
+            animal.bind(animalStore);
+        }
+    }
+
+}
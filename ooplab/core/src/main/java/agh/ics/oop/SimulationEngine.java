@@ -0,0 +1,127 @@
+package agh.ics.oop;
+
+import agh.ics.oop.model.configuration.SimulationEngineVariant;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Multiplexes simulations over a work-stealing pool. With {@link SimulationEngineVariant#STEP_SCHEDULER} every day of
+ * a simulation is a separate task, and the delay between days is kept by a timer rather than a sleeping thread, so
+ * paused and waiting simulations hold no thread. With {@link SimulationEngineVariant#VIRTUAL_THREADS} every simulation
+ * runs its own loop on a virtual thread, while the days themselves are still computed on the bounded pool. Parallel
+ * day steps of the simulations run on the same pool, so they do not compete with other users of the common pool.
+ */
+public class SimulationEngine {
+    private final SimulationEngineVariant variant;
+    private final ForkJoinPool stepPool;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService virtualThreads;
+    private final Map<UUID, ScheduledSimulation> simulations;
+
+    public SimulationEngine() {
+        this(SimulationEngineVariant.STEP_SCHEDULER);
+    }
+
+    public SimulationEngine(SimulationEngineVariant variant) {
+        this(variant, Runtime.getRuntime().availableProcessors());
+    }
+
+    public SimulationEngine(int parallelism) {
+        this(SimulationEngineVariant.STEP_SCHEDULER, parallelism);
+    }
+
+    public SimulationEngine(SimulationEngineVariant variant, int parallelism) {
+        this.variant = variant;
+        this.simulations = new ConcurrentHashMap<>();
+        // only the virtual thread variant runs the simulation loops outside of the step pool
+        this.virtualThreads = variant == SimulationEngineVariant.VIRTUAL_THREADS
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : null;
+        this.stepPool = new ForkJoinPool(parallelism, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        var scheduledExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            var thread = new Thread(runnable, "simulation-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduledExecutor.setRemoveOnCancelPolicy(true);
+        this.timer = scheduledExecutor;
+    }
+
+    public UUID addSimulation(Simulation simulation) {
+        simulation.getSimulationContext().setDayStepPool(stepPool);
+        var uuid = UUID.randomUUID();
+        simulations.put(uuid, new ScheduledSimulation(simulation));
+        return uuid;
+    }
+
+    public void runAsyncInThreadPool(UUID simulationUUID) {
+        var scheduled = simulations.get(simulationUUID);
+        if (variant == SimulationEngineVariant.VIRTUAL_THREADS) {
+            virtualThreads.submit(() -> scheduled.simulation.run(stepPool));
+            return;
+        }
+        scheduled.simulation.setResumeListener(scheduled::schedule);
+        scheduled.schedule();
+    }
+
+    public void closeThreadPool() {
+        if (virtualThreads != null) {
+            virtualThreads.shutdownNow();
+        }
+        timer.shutdownNow();
+        stepPool.shutdown();
+    }
+
+    private final class ScheduledSimulation {
+        private final Simulation simulation;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        ScheduledSimulation(Simulation simulation) {
+            this.simulation = simulation;
+        }
+
+        void schedule() {
+            if (!simulation.isPaused() && scheduled.compareAndSet(false, true)) {
+                submit(0);
+            }
+        }
+
+        private void submit(long delayNanos) {
+            try {
+                if (delayNanos > 0) {
+                    timer.schedule(() -> stepPool.execute(this::step), delayNanos, TimeUnit.NANOSECONDS);
+                } else {
+                    stepPool.execute(this::step);
+                }
+            } catch (RejectedExecutionException e) {
+                // the engine has been closed
+            }
+        }
+
+        private void step() {
+            var start = System.nanoTime();
+            if (!simulation.isPaused() && simulation.step()) {
+                if (!simulation.isPaused()) {
+                    submit(simulation.getDayPeriodNanos() - (System.nanoTime() - start));
+                    return;
+                }
+            }
+
+            scheduled.set(false);
+            // a resume that came in while the flag was still set has to be picked up here
+            if (!simulation.isFinished()) {
+                schedule();
+            }
+        }
+    }
+}
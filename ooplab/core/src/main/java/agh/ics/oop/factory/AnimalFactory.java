@@ -4,34 +4,42 @@ import agh.ics.oop.model.MapDirection;
 import agh.ics.oop.model.Vector2d;
 import agh.ics.oop.model.configuration.AnimalConfiguration;
 import agh.ics.oop.model.elements.Animal;
-import agh.ics.oop.model.elements.Gen;
 import agh.ics.oop.model.elements.Genome;
+import agh.ics.oop.model.elements.LineageStore;
 import agh.ics.oop.model.exceptions.AnimalNotBirthException;
 import agh.ics.oop.model.exceptions.InvalidCountException;
 
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
-import java.util.stream.Stream;
+import java.util.random.RandomGenerator;
 
 public class AnimalFactory {
     private final AnimalConfiguration animalConfiguration;
     private final RandomWrapper random;
+    private final LineageStore lineage;
 
-    AnimalFactory(AnimalConfiguration animalConfiguration, RandomWrapper random) {
+    AnimalFactory(AnimalConfiguration animalConfiguration, RandomWrapper random, LineageStore lineage) {
         this.animalConfiguration = animalConfiguration;
         this.random = random;
+        this.lineage = lineage;
+    }
+
+    AnimalFactory(AnimalConfiguration animalConfiguration, RandomWrapper random) {
+        this(animalConfiguration, random, null);
     }
 
-    public AnimalFactory(AnimalConfiguration animalConfiguration) {
-        this(animalConfiguration, new RandomWrapper());
+    public AnimalFactory(AnimalConfiguration animalConfiguration, RandomGenerator random) {
+        this(animalConfiguration, new RandomWrapper(random));
+    }
+
+    public AnimalFactory(AnimalConfiguration animalConfiguration, LineageStore lineage, RandomGenerator random) {
+        this(animalConfiguration, new RandomWrapper(random), lineage);
     }
 
     public Animal createAnimal(Vector2d position, int birthDay) {
-        return Animal.builder()
+        var animal = Animal.builder()
                 .position(position)
-                .orientation(MapDirection.getRandomDirection())
+                .orientation(randomDirection())
                 .genome(createGenome())
                 .startDay(birthDay)
                 .wellFedEnergy(animalConfiguration.getWellFedEnergy())
@@ -39,6 +47,8 @@ public class AnimalFactory {
                 .parents(new HashSet<>())
                 .countOfEatenPlants(0)
                 .build();
+        registerLineage(animal);
+        return animal;
     }
 
     public Animal birthAnimal(Animal parent1, Animal parent2, int birthDay) throws AnimalNotBirthException {
@@ -52,13 +62,14 @@ public class AnimalFactory {
             var newAnimal = Animal.builder()
                     .energy(2 * animalConfiguration.getLossCopulateEnergy())
                     .position(parent1.getPosition())
-                    .orientation(MapDirection.getRandomDirection())
-                    .parents(Set.of(parent1, parent2))
+                    .orientation(randomDirection())
+                    .parents(lineage == null ? Set.of(parent1, parent2) : null)
                     .countOfEatenPlants(0)
                     .wellFedEnergy(animalConfiguration.getWellFedEnergy())
                     .startDay(birthDay)
                     .genome(childGenome)
                     .build();
+            registerLineage(newAnimal);
 
             parent1.birthAnimal(newAnimal, animalConfiguration.getLossCopulateEnergy());
             parent2.birthAnimal(newAnimal, animalConfiguration.getLossCopulateEnergy());
@@ -70,30 +81,43 @@ public class AnimalFactory {
 
     }
 
+    private void registerLineage(Animal animal) {
+        if (lineage != null) {
+            lineage.register(animal);
+        }
+    }
+
     private Genome createChildGenome(Animal dominating, Animal other, boolean dominatingLeft, double percentage) throws InvalidCountException {
         var dominatingGensSize = (int) Math.ceil(percentage * animalConfiguration.getGenomeLength());
         var otherGensSize = animalConfiguration.getGenomeLength() - dominatingGensSize;
 
         var activatedGenIndex = random.nextInt(0, animalConfiguration.getGenomeLength());
 
-        var childGens = Stream
-                .concat(dominating.getPartOfGens(dominatingGensSize, dominatingLeft).stream(),
-                        other.getPartOfGens(otherGensSize, !dominatingLeft).stream())
-                .map(Gen::new)
-                .toList();
-        var childGenome = new Genome(childGens, animalConfiguration.getMutationVariant(), activatedGenIndex);
+        if (dominatingGensSize < 0 || otherGensSize < 0) {
+            throw new InvalidCountException();
+        }
+        if (dominating.getGenome() == null || other.getGenome() == null) {
+            throw new AnimalNotBirthException("Parent without genome cannot breed");
+        }
+
+        var childGenome = Genome.crossover(dominating.getGenome(), other.getGenome(), dominatingGensSize, otherGensSize,
+                dominatingLeft, animalConfiguration.getMutationVariant(), activatedGenIndex);
         childGenome.mutate(random.nextInt(
                 animalConfiguration.getMinimumMutationCount(),
-                animalConfiguration.getMaximumMutationCount() + 1));
+                animalConfiguration.getMaximumMutationCount() + 1), random.generator());
 
         return childGenome;
     }
 
+    private MapDirection randomDirection() {
+        return MapDirection.values()[random.nextInt(MapDirection.values().length)];
+    }
+
     private Genome createGenome() {
-        List<Gen> gens = new ArrayList<>();
+        var gens = new int[animalConfiguration.getGenomeLength()];
         var activatedGenIndex = random.nextInt(0, animalConfiguration.getGenomeLength());
-        for (int i = 0; i < animalConfiguration.getGenomeLength(); i++) {
-            gens.add(new Gen(random.nextInt(0, MapDirection.values().length)));
+        for (int i = 0; i < gens.length; i++) {
+            gens[i] = random.nextInt(0, MapDirection.values().length);
         }
 
         return new Genome(gens, animalConfiguration.getMutationVariant(), activatedGenIndex);
@@ -1,10 +1,14 @@
 package agh.ics.oop.factory;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 //test purpose
 class RandomWrapper {
-    private final Random random = new Random();
+    private final RandomGenerator random;
+
+    RandomWrapper(RandomGenerator random) {
+        this.random = random;
+    }
 
     int nextInt(int origin, int bound) {
         return random.nextInt(origin, bound);
@@ -14,4 +18,8 @@ class RandomWrapper {
         return random.nextInt(origin);
     }
 
+    RandomGenerator generator() {
+        return random;
+    }
+
 }
@@ -6,13 +6,17 @@ import agh.ics.oop.model.map.fire.FireEarth;
 import agh.ics.oop.model.map.plant.Earth;
 import agh.ics.oop.model.map.simulation.SimulationWorldMap;
 
+import java.util.random.RandomGenerator.SplittableGenerator;
+
 public class WorldMapFactory {
     private final WorldMapConfiguration worldMapConfiguration;
     private final AnimalBreeder breeder;
+    private final SplittableGenerator random;
 
-    public WorldMapFactory(WorldMapConfiguration worldMapConfiguration, AnimalBreeder breeder) {
+    public WorldMapFactory(WorldMapConfiguration worldMapConfiguration, AnimalBreeder breeder, SplittableGenerator random) {
         this.worldMapConfiguration = worldMapConfiguration;
         this.breeder = breeder;
+        this.random = random;
     }
 
     public SimulationWorldMap createWorldMap() {
@@ -30,7 +34,7 @@ public class WorldMapFactory {
         var startPlantCount = worldMapConfiguration.getStartPlantCount();
         var energyGain = worldMapConfiguration.getEnergyGain();
 
-        return new Earth(width, height, plantGrowth, startPlantCount, energyGain, plantVariant, breeder);
+        return new Earth(width, height, plantGrowth, startPlantCount, energyGain, plantVariant, breeder, random);
     }
 
     private FireEarth createFireEarth() {
@@ -43,7 +47,7 @@ public class WorldMapFactory {
         var startPlantCount = worldMapConfiguration.getStartPlantCount();
         var energyGain = worldMapConfiguration.getEnergyGain();
 
-        return new FireEarth(width, height, fireFrequency, fireDuration, plantGrowth, startPlantCount, energyGain, plantVariant, breeder);
+        return new FireEarth(width, height, fireFrequency, fireDuration, plantGrowth, startPlantCount, energyGain, plantVariant, breeder, random);
     }
 
 }
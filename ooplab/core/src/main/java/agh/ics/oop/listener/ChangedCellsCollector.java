@@ -0,0 +1,40 @@
+package agh.ics.oop.listener;
+
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.event.MapChangedEvent;
+import agh.ics.oop.model.map.WorldMap;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Collects the cells touched by positional map events, so a renderer can repaint only those. The simulation thread
+ * adds cells while the reader drains them, each drain returning the cells changed since the previous one.
+ */
+public class ChangedCellsCollector implements MapChangeListener {
+    private Set<Vector2d> changedCells = new HashSet<>();
+
+    @Override
+    public void mapChanged(WorldMap worldMap, MapChangedEvent mapChangedEvent) {
+        var position = mapChangedEvent.getPosition();
+        var previousPosition = mapChangedEvent.getPreviousPosition();
+        if (position == null && previousPosition == null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (position != null) {
+                changedCells.add(position);
+            }
+            if (previousPosition != null) {
+                changedCells.add(previousPosition);
+            }
+        }
+    }
+
+    public synchronized Set<Vector2d> drain() {
+        var drained = changedCells;
+        changedCells = new HashSet<>();
+        return drained;
+    }
+}
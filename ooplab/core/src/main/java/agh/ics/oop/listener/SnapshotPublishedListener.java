@@ -0,0 +1,7 @@
+package agh.ics.oop.listener;
+
+import agh.ics.oop.model.snapshot.WorldSnapshot;
+
+public interface SnapshotPublishedListener {
+    void onSnapshotPublished(WorldSnapshot snapshot);
+}
@@ -0,0 +1,36 @@
+package agh.ics.oop.listener;
+
+import agh.ics.oop.model.elements.Animal;
+
+/**
+ * Receives every world mutation that affects simulation statistics, so that they can be kept up to date
+ * without rescanning the world.
+ */
+public interface StatisticsChangeListener {
+    StatisticsChangeListener NONE = new StatisticsChangeListener() {
+    };
+
+    default void animalPlaced(Animal animal) {
+    }
+
+    default void animalRemoved(Animal animal) {
+    }
+
+    default void energyChanged(int delta) {
+    }
+
+    default void childrenChanged(int delta) {
+    }
+
+    default void plantPlaced() {
+    }
+
+    default void plantRemoved() {
+    }
+
+    default void fieldOccupied() {
+    }
+
+    default void fieldReleased() {
+    }
+}
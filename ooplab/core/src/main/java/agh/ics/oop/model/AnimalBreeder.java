@@ -0,0 +1,15 @@
+package agh.ics.oop.model;
+
+import agh.ics.oop.model.elements.Animal;
+
+@FunctionalInterface
+public interface AnimalBreeder {
+    Animal breed(Animal parent1, Animal parent2);
+
+    /**
+     * Called when a bred child could not be placed on the map, so it never joins the simulation.
+     */
+    default void discard(Animal child) {
+        child.unbind();
+    }
+}
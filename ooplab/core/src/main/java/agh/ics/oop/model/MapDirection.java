@@ -3,7 +3,7 @@ package agh.ics.oop.model;
 import agh.ics.oop.model.exceptions.InvalidAngleException;
 import lombok.Getter;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public enum MapDirection {
     NORTH(new Vector2d(0, 1), "N"),
@@ -18,7 +18,6 @@ public enum MapDirection {
     private final Vector2d vector;
     @Getter
     private final String symbol;
-    private static final Random RANDOM = new Random();
 
     MapDirection(Vector2d vector, String symbol) {
         this.vector = vector;
@@ -60,9 +59,9 @@ public enum MapDirection {
         return vector;
     }
 
-    public static MapDirection getRandomDirection() {
+    public static MapDirection getRandomDirection(RandomGenerator random) {
         MapDirection[] directions = MapDirection.values();
-        int randomIndex = RANDOM.nextInt(directions.length);
+        int randomIndex = random.nextInt(directions.length);
         return directions[randomIndex];
     }
 }
@@ -0,0 +1,15 @@
+package agh.ics.oop.model.configuration;
+
+import lombok.Getter;
+
+@Getter
+public enum AnimalStorageVariant {
+    OBJECTS("Objects"),
+    STRUCT_OF_ARRAYS("Struct of arrays");
+
+    private final String displayText;
+
+    AnimalStorageVariant(String displayText) {
+        this.displayText = displayText;
+    }
+}
@@ -0,0 +1,15 @@
+package agh.ics.oop.model.configuration;
+
+import lombok.Getter;
+
+@Getter
+public enum DayStepVariant {
+    SEQUENTIAL("Sequential"),
+    PARALLEL("Parallel");
+
+    private final String displayText;
+
+    DayStepVariant(String displayText) {
+        this.displayText = displayText;
+    }
+}
@@ -0,0 +1,16 @@
+package agh.ics.oop.model.configuration;
+
+import lombok.Getter;
+
+@Getter
+public enum LineageRetention {
+    FULL("Full"),
+    LAST_GENERATIONS("Last generations"),
+    AGGREGATES_ONLY("Aggregates only");
+
+    private final String displayText;
+
+    LineageRetention(String displayText) {
+        this.displayText = displayText;
+    }
+}
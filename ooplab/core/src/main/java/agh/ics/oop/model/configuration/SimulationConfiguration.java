@@ -0,0 +1,60 @@
+package agh.ics.oop.model.configuration;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@Builder
+@EqualsAndHashCode
+public class SimulationConfiguration {
+    private static final int DEFAULT_LINEAGE_GENERATIONS = 10;
+
+    private final int daysCount;
+    private final int startAnimalCount;
+    private final boolean saveStatisticsCsv;
+    private final boolean saveDeathRecords;
+    private final AnimalStorageVariant animalStorage;
+    private final StatisticsVariant statisticsVariant;
+    private final LineageRetention lineageRetention;
+    private final int lineageGenerations;
+    private final DayStepVariant dayStep;
+    private final Long seed;
+    private final TickPolicyVariant tickPolicy;
+    private final double daysPerSecond;
+    private final int fastForwardDays;
+
+    @JsonCreator
+    SimulationConfiguration(
+            @JsonProperty("daysCount") int daysCount,
+            @JsonProperty("startAnimalCount") int startAnimalCount,
+            @JsonProperty("saveStatisticsCsv") boolean saveStatisticsCsv,
+            @JsonProperty("saveDeathRecords") boolean saveDeathRecords,
+            @JsonProperty("animalStorage") AnimalStorageVariant animalStorage,
+            @JsonProperty("statisticsVariant") StatisticsVariant statisticsVariant,
+            @JsonProperty("lineageRetention") LineageRetention lineageRetention,
+            @JsonProperty("lineageGenerations") int lineageGenerations,
+            @JsonProperty("dayStep") DayStepVariant dayStep,
+            @JsonProperty("seed") Long seed,
+            @JsonProperty("tickPolicy") TickPolicyVariant tickPolicy,
+            @JsonProperty("daysPerSecond") double daysPerSecond,
+            @JsonProperty("fastForwardDays") int fastForwardDays) {
+        this.daysCount = daysCount;
+        this.startAnimalCount = startAnimalCount;
+        this.saveStatisticsCsv = saveStatisticsCsv;
+        this.saveDeathRecords = saveDeathRecords;
+        this.animalStorage = animalStorage != null ? animalStorage : AnimalStorageVariant.OBJECTS;
+        this.statisticsVariant = statisticsVariant != null ? statisticsVariant : StatisticsVariant.INCREMENTAL;
+        this.lineageRetention = lineageRetention != null ? lineageRetention : LineageRetention.FULL;
+        this.lineageGenerations = lineageGenerations > 0 ? lineageGenerations : DEFAULT_LINEAGE_GENERATIONS;
+        this.dayStep = dayStep != null ? dayStep : DayStepVariant.SEQUENTIAL;
+        this.seed = seed;
+        this.tickPolicy = tickPolicy != null ? tickPolicy : TickPolicyVariant.FIXED_RATE;
+        this.daysPerSecond = daysPerSecond > 0 ? daysPerSecond : TickPolicy.DEFAULT_DAYS_PER_SECOND;
+        this.fastForwardDays = Math.max(fastForwardDays, 0);
+    }
+}
@@ -0,0 +1,15 @@
+package agh.ics.oop.model.configuration;
+
+import lombok.Getter;
+
+@Getter
+public enum SimulationEngineVariant {
+    STEP_SCHEDULER("Step scheduler"),
+    VIRTUAL_THREADS("Virtual threads");
+
+    private final String displayText;
+
+    SimulationEngineVariant(String displayText) {
+        this.displayText = displayText;
+    }
+}
@@ -0,0 +1,15 @@
+package agh.ics.oop.model.configuration;
+
+import lombok.Getter;
+
+@Getter
+public enum StatisticsVariant {
+    INCREMENTAL("Incremental"),
+    FULL_SCAN("Full scan");
+
+    private final String displayText;
+
+    StatisticsVariant(String displayText) {
+        this.displayText = displayText;
+    }
+}
@@ -0,0 +1,29 @@
+package agh.ics.oop.model.configuration;
+
+/**
+ * How fast a simulation advances: a fixed number of days per second, as fast as possible, or as fast as possible for
+ * the next {@code fastForwardDays} days and at the fixed rate afterwards.
+ */
+public record TickPolicy(TickPolicyVariant variant, double daysPerSecond, int fastForwardDays) {
+    public static final double DEFAULT_DAYS_PER_SECOND = 10;
+
+    public static TickPolicy fixedRate(double daysPerSecond) {
+        return new TickPolicy(TickPolicyVariant.FIXED_RATE, daysPerSecond, 0);
+    }
+
+    public static TickPolicy turbo() {
+        return new TickPolicy(TickPolicyVariant.TURBO, DEFAULT_DAYS_PER_SECOND, 0);
+    }
+
+    public static TickPolicy fastForward(int days, double daysPerSecond) {
+        return new TickPolicy(TickPolicyVariant.FAST_FORWARD, daysPerSecond, days);
+    }
+
+    public static TickPolicy from(SimulationConfiguration configuration) {
+        return new TickPolicy(configuration.getTickPolicy(), configuration.getDaysPerSecond(), configuration.getFastForwardDays());
+    }
+
+    public long dayPeriodNanos() {
+        return variant != TickPolicyVariant.TURBO && daysPerSecond > 0 ? (long) (1_000_000_000L / daysPerSecond) : 0;
+    }
+}
@@ -0,0 +1,16 @@
+package agh.ics.oop.model.configuration;
+
+import lombok.Getter;
+
+@Getter
+public enum TickPolicyVariant {
+    FIXED_RATE("Fixed rate"),
+    TURBO("Turbo"),
+    FAST_FORWARD("Fast forward");
+
+    private final String displayText;
+
+    TickPolicyVariant(String displayText) {
+        this.displayText = displayText;
+    }
+}
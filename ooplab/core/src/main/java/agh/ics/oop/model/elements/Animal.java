@@ -0,0 +1,337 @@
+package agh.ics.oop.model.elements;
+
+import agh.ics.oop.listener.StatisticsChangeListener;
+import agh.ics.oop.model.MapDirection;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.exceptions.AnimalStillAliveException;
+import agh.ics.oop.model.exceptions.InvalidCountException;
+import agh.ics.oop.model.exceptions.LineageNotAvailableException;
+import agh.ics.oop.model.move.Move;
+import agh.ics.oop.model.move.MoveAdjuster;
+import agh.ics.oop.model.move.MoveDirection;
+import agh.ics.oop.model.move.MoveValidator;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+public class Animal implements WorldElement {
+    private int energy;
+    private Vector2d position;
+    private MapDirection orientation;
+    private final Set<Animal> parents;
+    private final Set<Animal> children;
+    private int countOfEatenPlants;
+    private int endDay;
+    private final int wellFedEnergy;
+    private final int startDay;
+    private final Genome genome;
+    @Getter(AccessLevel.NONE)
+    private AnimalStore store;
+    @Getter(AccessLevel.NONE)
+    private int slot;
+    @Getter(AccessLevel.NONE)
+    private StatisticsChangeListener statisticsListener = StatisticsChangeListener.NONE;
+    @Getter(AccessLevel.NONE)
+    private int descendantCount;
+    @Getter(AccessLevel.PACKAGE)
+    private LineageStore lineage;
+    @Getter(AccessLevel.PACKAGE)
+    private int lineageSlot;
+    private int lineageId = -1;
+    @Getter(AccessLevel.NONE)
+    private int childCount;
+
+    @Builder
+    public Animal(int energy, Vector2d position, MapDirection orientation, Set<Animal> parents, Set<Animal> children,
+                  int countOfEatenPlants, int endDay, int wellFedEnergy, int startDay, Genome genome) {
+        this.energy = energy;
+        this.position = position;
+        this.orientation = orientation;
+        this.parents = parents != null ? parents : new HashSet<>();
+        this.children = children != null ? children : new HashSet<>();
+        this.countOfEatenPlants = countOfEatenPlants;
+        this.endDay = endDay;
+        this.wellFedEnergy = wellFedEnergy;
+        this.startDay = startDay;
+        this.genome = genome;
+    }
+
+    public Animal(Vector2d position, Genome genome) {
+        this(25, position, MapDirection.NORTH, new HashSet<>(), new HashSet<>(), 0, 0, 15, 0, genome);
+    }
+
+    /**
+     * Moves the mutable state of this animal into the given store. Until {@link #unbind()} is called the animal
+     * acts as a handle over its slot.
+     */
+    public void bind(AnimalStore store) {
+        if (this.store != null) {
+            return;
+        }
+        slot = store.allocate(this, energy, orientation, endDay, countOfEatenPlants);
+        this.store = store;
+    }
+
+    /**
+     * Copies the state back from the store and frees the slot, so that the store only holds living animals.
+     */
+    public void unbind() {
+        var boundStore = store;
+        if (boundStore == null) {
+            return;
+        }
+        energy = boundStore.getEnergy(slot);
+        orientation = boundStore.getOrientation(slot);
+        countOfEatenPlants = boundStore.getEatenPlants(slot);
+        endDay = boundStore.getEndDay(slot);
+        store = null;
+        boundStore.release(slot);
+    }
+
+    void attachLineage(LineageStore lineage, int slot, int id) {
+        this.lineage = lineage;
+        this.lineageSlot = slot;
+        this.lineageId = id;
+    }
+
+    void rememberDescendants(int descendantCount) {
+        this.descendantCount = descendantCount;
+    }
+
+    public void setStatisticsListener(StatisticsChangeListener statisticsListener) {
+        this.statisticsListener = statisticsListener;
+    }
+
+    public boolean isBound() {
+        return store != null;
+    }
+
+    void relocate(int slot) {
+        this.slot = slot;
+    }
+
+    public int getEnergy() {
+        return store != null ? store.getEnergy(slot) : energy;
+    }
+
+    public MapDirection getOrientation() {
+        return store != null ? store.getOrientation(slot) : orientation;
+    }
+
+    public int getCountOfEatenPlants() {
+        return store != null ? store.getEatenPlants(slot) : countOfEatenPlants;
+    }
+
+    public void setEndDay(int endDay) {
+        if (store != null) {
+            store.setEndDay(slot, endDay);
+        } else {
+            this.endDay = endDay;
+        }
+    }
+
+    public boolean isAt(Vector2d position) {
+        return this.position.equals(position);
+    }
+
+    public void decreaseEnergy(int amount) {
+        setEnergy(getEnergy() - amount);
+    }
+
+    public void eat(Eatable food) {
+        setEnergy(getEnergy() + food.getEnergyGain());
+        setCountOfEatenPlants(getCountOfEatenPlants() + 1);
+    }
+
+    public boolean isDead() {
+        return getEnergy() <= 0;
+    }
+
+    public void kill() {
+        setEnergy(0);
+    }
+
+    public boolean canMakeChild() {
+        return getEnergy() >= wellFedEnergy;
+    }
+
+    public void addChild(Animal child) {
+        if (linkChild(child)) {
+            handleChildAdded();
+        }
+    }
+
+    /**
+     * Only for animals outside a {@link LineageStore}. Registered animals know their family by ids only, so asking
+     * them for relatives throws instead of returning an empty set; their counts are still available.
+     *
+     * @throws LineageNotAvailableException if the animal is registered in a lineage store
+     */
+    public Set<Animal> getChildren() {
+        requireObjectLineage();
+        return Collections.unmodifiableSet(children);
+    }
+
+    /**
+     * @throws LineageNotAvailableException if the animal is registered in a lineage store
+     */
+    public Set<Animal> getParents() {
+        requireObjectLineage();
+        return Collections.unmodifiableSet(parents);
+    }
+
+    /**
+     * @throws LineageNotAvailableException if the animal is registered in a lineage store
+     */
+    public Set<Animal> getDescendants() {
+        requireObjectLineage();
+        var descendants = new HashSet<Animal>();
+        var pending = new ArrayDeque<>(children);
+        while (!pending.isEmpty()) {
+            var descendant = pending.pop();
+            if (descendants.add(descendant)) {
+                pending.addAll(descendant.children);
+            }
+        }
+        return Collections.unmodifiableSet(descendants);
+    }
+
+    public List<Gen> getPartOfGens(int count, boolean left) throws InvalidCountException {
+        if (count < 0) {
+            throw new InvalidCountException();
+        }
+        return genome.getPartOfGenome(count, left);
+    }
+
+    public void move(MoveValidator moveValidator) {
+        move(moveValidator, null);
+    }
+
+    public void move(MoveValidator moveValidator, MoveAdjuster moveAdjuster) {
+        setOrientation(genome.nextGen().rotate(getOrientation()));
+        move(MoveDirection.FORWARD, moveValidator, moveAdjuster);
+    }
+
+    public void move(MoveDirection moveDirection, MoveValidator validator) {
+        var currentOrientation = getOrientation();
+        switch (moveDirection) {
+            case FORWARD -> updatePosition(position.add(currentOrientation.toUnitVector()), validator);
+            case BACKWARD -> updatePosition(position.subtract(currentOrientation.toUnitVector()), validator);
+            case LEFT -> setOrientation(currentOrientation.rotateRightAngleCounterClockwise());
+            case RIGHT -> setOrientation(currentOrientation.rotateRightAngleClockwise());
+        }
+    }
+
+    public void move(MoveDirection moveDirection, MoveValidator validator, MoveAdjuster adjuster) {
+        move(moveDirection, validator);
+
+        if (adjuster != null) {
+            var adjustedMove = adjuster.adjustMove(new Move(position, getOrientation()));
+            setPosition(adjustedMove.getToPosition());
+            setOrientation(adjustedMove.getOrientation());
+        }
+    }
+
+    private void updatePosition(Vector2d newPosition, MoveValidator validator) {
+        if (validator.canMoveTo(newPosition)) {
+            setPosition(newPosition);
+        }
+    }
+
+    private void setEnergy(int energy) {
+        var delta = energy - getEnergy();
+        if (store != null) {
+            store.setEnergy(slot, energy);
+        } else {
+            this.energy = energy;
+        }
+        statisticsListener.energyChanged(delta);
+    }
+
+    private void setPosition(Vector2d position) {
+        this.position = position;
+    }
+
+    private void setOrientation(MapDirection orientation) {
+        if (store != null) {
+            store.setOrientation(slot, orientation);
+        } else {
+            this.orientation = orientation;
+        }
+    }
+
+    private void setCountOfEatenPlants(int countOfEatenPlants) {
+        if (store != null) {
+            store.setEatenPlants(slot, countOfEatenPlants);
+        } else {
+            this.countOfEatenPlants = countOfEatenPlants;
+        }
+    }
+
+    private boolean linkChild(Animal child) {
+        return lineage != null ? lineage.link(this, child) : children.add(child);
+    }
+
+    private void requireObjectLineage() {
+        if (lineage != null) {
+            throw new LineageNotAvailableException(this);
+        }
+    }
+
+    private void handleChildAdded() {
+        if (lineage != null) {
+            childCount++;
+        }
+        statisticsListener.childrenChanged(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Animal - Energy: %s", getEnergy());
+    }
+
+    @Override
+    public Vector2d getPosition() {
+        return position;
+    }
+
+    public Gen getActivatedGen() {
+        return genome.getActivatedGen();
+    }
+
+    public void birthAnimal(Animal child, int lossCopulateEnergy) {
+        if (linkChild(child)) {
+            handleChildAdded();
+        }
+        decreaseEnergy(lossCopulateEnergy);
+    }
+
+    public int getCountOfChildren() {
+        return lineage != null ? childCount : children.size();
+    }
+
+    /**
+     * Constant time for animals registered in a {@link LineageStore}, which keeps the counts up to date at every
+     * birth. Other animals count their descendants by walking their children.
+     */
+    public int getCountOfDescendants() {
+        return lineage != null
+                ? lineage.getDescendantCount(lineageSlot, lineageId, descendantCount)
+                : getDescendants().size();
+    }
+
+    public int getEndDay() throws AnimalStillAliveException {
+        if (!isDead()) {
+            throw new AnimalStillAliveException(this);
+        }
+        return store != null ? store.getEndDay(slot) : endDay;
+    }
+
+}
@@ -0,0 +1,114 @@
+package agh.ics.oop.model.elements;
+
+import agh.ics.oop.listener.StatisticsChangeListener;
+import agh.ics.oop.model.MapDirection;
+
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays storage for the per-day state of living animals. Each bound {@link Animal} owns one slot and
+ * reads and writes its energy, orientation, end day and count of eaten plants through it, so the daily energy loss
+ * of the whole population is a single loop over a primitive array. Slots are kept dense, so releasing an animal
+ * moves the last slot into the freed one.
+ * <p>
+ * This is not a full handle model: position, start day, genome and family stay on the {@link Animal}, which also
+ * keeps its own copies of the stored fields for when it is unbound, so an animal takes slightly more heap than
+ * without the store. The map, the lineage and the cell phases still work with animal references.
+ */
+public class AnimalStore {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final byte NO_ORIENTATION = -1;
+    private static final MapDirection[] DIRECTIONS = MapDirection.values();
+
+    private Animal[] handles = new Animal[INITIAL_CAPACITY];
+    private int[] energy = new int[INITIAL_CAPACITY];
+    private byte[] orientation = new byte[INITIAL_CAPACITY];
+    private int[] endDay = new int[INITIAL_CAPACITY];
+    private int[] eatenPlants = new int[INITIAL_CAPACITY];
+    private int size;
+    private StatisticsChangeListener statisticsListener = StatisticsChangeListener.NONE;
+
+    int allocate(Animal animal, int energy, MapDirection orientation, int endDay, int eatenPlants) {
+        if (size == handles.length) {
+            grow();
+        }
+
+        var slot = size++;
+        handles[slot] = animal;
+        this.energy[slot] = energy;
+        setOrientation(slot, orientation);
+        this.endDay[slot] = endDay;
+        this.eatenPlants[slot] = eatenPlants;
+        return slot;
+    }
+
+    void release(int slot) {
+        var last = --size;
+        if (slot != last) {
+            handles[slot] = handles[last];
+            energy[slot] = energy[last];
+            orientation[slot] = orientation[last];
+            endDay[slot] = endDay[last];
+            eatenPlants[slot] = eatenPlants[last];
+            handles[slot].relocate(slot);
+        }
+        handles[last] = null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void setStatisticsListener(StatisticsChangeListener statisticsListener) {
+        this.statisticsListener = statisticsListener;
+    }
+
+    public void decreaseEnergy(int amount) {
+        for (int slot = 0; slot < size; slot++) {
+            energy[slot] -= amount;
+        }
+        statisticsListener.energyChanged(-amount * size);
+    }
+
+    int getEnergy(int slot) {
+        return energy[slot];
+    }
+
+    void setEnergy(int slot, int value) {
+        energy[slot] = value;
+    }
+
+    MapDirection getOrientation(int slot) {
+        var ordinal = orientation[slot];
+        return ordinal == NO_ORIENTATION ? null : DIRECTIONS[ordinal];
+    }
+
+    void setOrientation(int slot, MapDirection value) {
+        orientation[slot] = value == null ? NO_ORIENTATION : (byte) value.ordinal();
+    }
+
+    int getEndDay(int slot) {
+        return endDay[slot];
+    }
+
+    void setEndDay(int slot, int value) {
+        endDay[slot] = value;
+    }
+
+    int getEatenPlants(int slot) {
+        return eatenPlants[slot];
+    }
+
+    void setEatenPlants(int slot, int value) {
+        eatenPlants[slot] = value;
+    }
+
+    private void grow() {
+        var capacity = handles.length * 2;
+        handles = Arrays.copyOf(handles, capacity);
+        energy = Arrays.copyOf(energy, capacity);
+        orientation = Arrays.copyOf(orientation, capacity);
+        endDay = Arrays.copyOf(endDay, capacity);
+        eatenPlants = Arrays.copyOf(eatenPlants, capacity);
+    }
+}
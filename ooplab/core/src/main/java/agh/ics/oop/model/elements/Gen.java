@@ -0,0 +1,97 @@
+package agh.ics.oop.model.elements;
+
+import agh.ics.oop.model.MapDirection;
+import agh.ics.oop.model.configuration.MutationVariant;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+public class Gen {
+    private static final Gen[] CACHE = createCache();
+    @Getter(AccessLevel.PACKAGE)
+    private final int index;
+
+    public Gen(int index) {
+        if (index < 0 || index >= MapDirection.values().length) {
+            throw new IllegalArgumentException("Gen index is out of bound!");
+        }
+        this.index = index;
+    }
+
+    public Gen(Gen other) {
+        this.index = other.index;
+    }
+
+    /**
+     * Returns a shared instance for the given index.
+     */
+    public static Gen of(int index) {
+        if (index < 0 || index >= CACHE.length) {
+            throw new IllegalArgumentException("Gen index is out of bound!");
+        }
+        return CACHE[index];
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (object == null || getClass() != object.getClass()) return false;
+        Gen gen = (Gen) object;
+        return index == gen.index;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(index);
+    }
+
+    @Override
+    public String toString() {
+        return "%d".formatted(index);
+    }
+
+    MapDirection rotate(MapDirection direction) {
+        return direction.rotate(index * 45);
+    }
+
+    /**
+     * Gens are immutable and shared, so mutating returns the shared instance for the mutated index.
+     */
+    Gen mutate(MutationVariant variant, RandomGenerator random) {
+        return of(mutatedIndex(index, variant, random));
+    }
+
+    static int mutatedIndex(int index, MutationVariant variant, RandomGenerator random) {
+        return switch (variant) {
+            case MutationVariant.FULL_RANDOM -> mutateFullRandom(index, random);
+            case MutationVariant.LITTLE_CORRECTION -> mutateLittleCorrection(index, random);
+        };
+    }
+
+    private static int mutateFullRandom(int index, RandomGenerator random) {
+        var mutated = index;
+        while (mutated == index) {
+            mutated = random.nextInt(0, MapDirection.values().length);
+        }
+        return mutated;
+    }
+
+    private static int mutateLittleCorrection(int index, RandomGenerator random) {
+        if (index == 0) {
+            return random.nextBoolean() ? 1 : 7;
+        }
+        int direction = random.nextBoolean() ? 1 : -1;
+        return (index + direction) % MapDirection.values().length;
+    }
+
+    private static Gen[] createCache() {
+        var cache = new Gen[MapDirection.values().length];
+        for (int i = 0; i < cache.length; i++) {
+            cache[i] = new Gen(i);
+        }
+        return cache;
+    }
+
+}
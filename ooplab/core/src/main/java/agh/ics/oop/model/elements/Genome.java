@@ -0,0 +1,182 @@
+package agh.ics.oop.model.elements;
+
+import agh.ics.oop.model.configuration.MutationVariant;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Genome packed at 3 bits per gene, 21 genes per {@code long}. {@link Gen} objects are only handed out as shared
+ * cached instances, so walking, crossing over and mutating a genome does not allocate.
+ */
+public class Genome {
+    private static final int BITS_PER_GEN = 3;
+    private static final int GENS_PER_WORD = Long.SIZE / BITS_PER_GEN;
+    private static final long GEN_MASK = (1L << BITS_PER_GEN) - 1;
+
+    private static final long FINGERPRINT_SEED = 0x9E3779B97F4A7C15L;
+
+    private final long[] words;
+    private final int length;
+    private long fingerprint;
+    private int currentIndex;
+    private final MutationVariant mutation;
+
+    public Genome(List<Gen> gens) {
+        this(gens, MutationVariant.FULL_RANDOM);
+    }
+
+    public Genome(List<Gen> gens, MutationVariant mutation) {
+        this(gens, mutation, 0);
+    }
+
+    public Genome(List<Gen> gens, MutationVariant mutation, int index) {
+        this(gens.size(), mutation, index);
+        for (int i = 0; i < length; i++) {
+            set(i, gens.get(i).getIndex());
+        }
+        updateFingerprint();
+    }
+
+    public Genome(int[] gens, MutationVariant mutation, int index) {
+        this(gens.length, mutation, index);
+        for (int i = 0; i < length; i++) {
+            set(i, Gen.of(gens[i]).getIndex());
+        }
+        updateFingerprint();
+    }
+
+    private Genome(int length, MutationVariant mutation, int index) {
+        this.words = new long[(length + GENS_PER_WORD - 1) / GENS_PER_WORD];
+        this.length = length;
+        this.mutation = mutation;
+        this.currentIndex = index;
+    }
+
+    /**
+     * Builds a child genome from {@code dominatingCount} genes taken from one side of the dominating genome,
+     * followed by {@code otherCount} genes taken from the opposite side of the other genome.
+     */
+    public static Genome crossover(Genome dominating, Genome other, int dominatingCount, int otherCount,
+                                   boolean dominatingLeft, MutationVariant mutation, int index) {
+        dominatingCount = Math.clamp(dominatingCount, 0, dominating.length);
+        otherCount = Math.clamp(otherCount, 0, other.length);
+
+        var child = new Genome(dominatingCount + otherCount, mutation, index);
+        var dominatingFrom = dominatingLeft ? 0 : dominating.length - dominatingCount;
+        var otherFrom = dominatingLeft ? other.length - otherCount : 0;
+        child.copyFrom(dominating, dominatingFrom, 0, dominatingCount);
+        child.copyFrom(other, otherFrom, dominatingCount, otherCount);
+        child.updateFingerprint();
+        return child;
+    }
+
+    /**
+     * Mutates {@code count} distinct, uniformly chosen genes using selection sampling, which needs no index buffer.
+     */
+    public void mutate(int count, RandomGenerator random) {
+        var remainingToMutate = Math.min(count, length);
+        for (int i = 0; i < length && remainingToMutate > 0; i++) {
+            if (random.nextInt(length - i) < remainingToMutate) {
+                set(i, Gen.mutatedIndex(get(i), mutation, random));
+                remainingToMutate--;
+            }
+        }
+        updateFingerprint();
+    }
+
+    public List<Gen> getPartOfGenome(int count, boolean shouldStartFromLeft) {
+        if (count < 0) {
+            return new ArrayList<>();
+        }
+
+        count = Math.min(count, length);
+        var from = shouldStartFromLeft ? 0 : length - count;
+        var partOfGenome = new ArrayList<Gen>(count);
+        for (int i = from; i < from + count; i++) {
+            partOfGenome.add(Gen.of(get(i)));
+        }
+
+        return partOfGenome;
+    }
+
+    public Gen nextGen() {
+        return Gen.of(nextGenIndex());
+    }
+
+    public int nextGenIndex() {
+        var index = currentIndex % length;
+        currentIndex += 1;
+        return get(index);
+    }
+
+    public Gen getActivatedGen() {
+        return Gen.of(get(currentIndex % length));
+    }
+
+    public int size() {
+        return length;
+    }
+
+    /**
+     * 64-bit hash of the genes, equal for genomes with equal genes. Used to group genotypes without comparing
+     * gene lists.
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    public int getGenIndex(int position) {
+        return get(position);
+    }
+
+    public List<Gen> getGens() {
+        return new AbstractList<>() {
+            @Override
+            public Gen get(int position) {
+                return Gen.of(Genome.this.get(position));
+            }
+
+            @Override
+            public int size() {
+                return length;
+            }
+        };
+    }
+
+    private int get(int position) {
+        return (int) ((words[position / GENS_PER_WORD] >>> shiftOf(position)) & GEN_MASK);
+    }
+
+    private void set(int position, int gen) {
+        var word = position / GENS_PER_WORD;
+        var shift = shiftOf(position);
+        words[word] = (words[word] & ~(GEN_MASK << shift)) | ((long) gen << shift);
+    }
+
+    private void copyFrom(Genome source, int sourceFrom, int targetFrom, int count) {
+        for (int i = 0; i < count; i++) {
+            set(targetFrom + i, source.get(sourceFrom + i));
+        }
+    }
+
+    private void updateFingerprint() {
+        var hash = mix(FINGERPRINT_SEED + length);
+        for (var word : words) {
+            hash = mix(hash ^ word);
+        }
+        fingerprint = hash;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private static int shiftOf(int position) {
+        return (position % GENS_PER_WORD) * BITS_PER_GEN;
+    }
+}
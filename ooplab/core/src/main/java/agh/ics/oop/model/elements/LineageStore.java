@@ -0,0 +1,240 @@
+package agh.ics.oop.model.elements;
+
+import agh.ics.oop.model.configuration.LineageRetention;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Family tree of the simulation kept in primitive arrays. Each registered {@link Animal} gets a record with a compact
+ * integer id, up to two parent links, its generation and its count of distinct descendants, so animals never hold
+ * references to their relatives and dead ones can be collected.
+ * <p>
+ * Records of dead animals are kept according to the {@link LineageRetention}: {@code FULL} keeps all of them,
+ * {@code LAST_GENERATIONS} drops those older than the configured number of generations, which cuts the paths
+ * descendant counts are propagated through, and {@code AGGREGATES_ONLY} drops every record once its animal dies
+ * and counts only direct children as descendants.
+ */
+public class LineageStore {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int FREE = -1;
+    private static final int NO_PARENT = -1;
+
+    private final LineageRetention retention;
+    private final int generations;
+    private final List<SlotList> deadByGeneration = new ArrayList<>();
+    private int firstDeadGeneration;
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int[] firstParentSlots = new int[INITIAL_CAPACITY];
+    private int[] firstParentIds = new int[INITIAL_CAPACITY];
+    private int[] secondParentSlots = new int[INITIAL_CAPACITY];
+    private int[] secondParentIds = new int[INITIAL_CAPACITY];
+    private int[] generationOf = new int[INITIAL_CAPACITY];
+    private int[] descendantCounts = new int[INITIAL_CAPACITY];
+    private int[] marks = new int[INITIAL_CAPACITY];
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int[] pending = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int used;
+    private int size;
+    private int nextId;
+    private int mark;
+    private int maxGeneration;
+
+    public LineageStore(LineageRetention retention, int generations) {
+        this.retention = retention;
+        this.generations = generations;
+        Arrays.fill(ids, FREE);
+    }
+
+    public synchronized void register(Animal animal) {
+        var slot = freeCount > 0 ? freeSlots[--freeCount] : allocateSlot();
+        var id = nextId++;
+        ids[slot] = id;
+        firstParentSlots[slot] = NO_PARENT;
+        secondParentSlots[slot] = NO_PARENT;
+        generationOf[slot] = 0;
+        descendantCounts[slot] = 0;
+        size++;
+        animal.attachLineage(this, slot, id);
+    }
+
+    /**
+     * Called once the animal left the simulation. Its current descendant count is remembered by the animal, so it
+     * stays readable after the record is dropped.
+     */
+    public synchronized void retire(Animal animal) {
+        var slot = animal.getLineageSlot();
+        if (animal.getLineage() != this || !isRetained(slot, animal.getLineageId())) {
+            return;
+        }
+
+        animal.rememberDescendants(descendantCounts[slot]);
+        switch (retention) {
+            case FULL -> {
+            }
+            case AGGREGATES_ONLY -> release(slot);
+            case LAST_GENERATIONS -> {
+                var generation = generationOf[slot];
+                if (generation < firstDeadGeneration) {
+                    release(slot);
+                    return;
+                }
+                while (firstDeadGeneration + deadByGeneration.size() <= generation) {
+                    deadByGeneration.add(new SlotList());
+                }
+                deadByGeneration.get(generation - firstDeadGeneration).add(slot);
+                releaseOldGenerations();
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized int getMaxGeneration() {
+        return maxGeneration;
+    }
+
+    synchronized int getDescendantCount(int slot, int id, int fallback) {
+        return isRetained(slot, id) ? descendantCounts[slot] : fallback;
+    }
+
+    /**
+     * Links a child with one of its parents. Every ancestor reachable from the parent, but not yet from the child,
+     * gains the child and its descendants, which keeps shared ancestors from counting a newborn twice.
+     */
+    synchronized boolean link(Animal parent, Animal child) {
+        if (child.getLineage() != this) {
+            register(child);
+        }
+        var parentSlot = parent.getLineageSlot();
+        var parentId = parent.getLineageId();
+        var childSlot = child.getLineageSlot();
+        if (isParent(childSlot, parentSlot, parentId)) {
+            return false;
+        }
+
+        if (retention == LineageRetention.AGGREGATES_ONLY) {
+            descendantCounts[parentSlot]++;
+        } else {
+            var gained = 1 + descendantCounts[childSlot];
+            mark++;
+            markAncestors(firstParentSlots[childSlot], firstParentIds[childSlot], false, 0);
+            markAncestors(secondParentSlots[childSlot], secondParentIds[childSlot], false, 0);
+            markAncestors(parentSlot, parentId, true, gained);
+        }
+        updateGeneration(childSlot, generationOf[parentSlot] + 1);
+
+        if (firstParentSlots[childSlot] == NO_PARENT) {
+            firstParentSlots[childSlot] = parentSlot;
+            firstParentIds[childSlot] = parentId;
+        } else if (secondParentSlots[childSlot] == NO_PARENT) {
+            secondParentSlots[childSlot] = parentSlot;
+            secondParentIds[childSlot] = parentId;
+        } else {
+            throw new IllegalStateException("Animal cannot have more than two parents");
+        }
+        return true;
+    }
+
+    private void markAncestors(int slot, int id, boolean count, int gained) {
+        if (!isRetained(slot, id) || marks[slot] == mark) {
+            return;
+        }
+
+        var top = 0;
+        pending[top++] = slot;
+        marks[slot] = mark;
+        while (top > 0) {
+            var current = pending[--top];
+            if (count) {
+                descendantCounts[current] += gained;
+            }
+            top = push(top, firstParentSlots[current], firstParentIds[current]);
+            top = push(top, secondParentSlots[current], secondParentIds[current]);
+        }
+    }
+
+    private int push(int top, int slot, int id) {
+        if (isRetained(slot, id) && marks[slot] != mark) {
+            marks[slot] = mark;
+            pending[top++] = slot;
+        }
+        return top;
+    }
+
+    private boolean isRetained(int slot, int id) {
+        return slot >= 0 && slot < used && ids[slot] == id;
+    }
+
+    private boolean isParent(int childSlot, int parentSlot, int parentId) {
+        return (firstParentSlots[childSlot] == parentSlot && firstParentIds[childSlot] == parentId)
+                || (secondParentSlots[childSlot] == parentSlot && secondParentIds[childSlot] == parentId);
+    }
+
+    private void updateGeneration(int slot, int generation) {
+        if (generation <= generationOf[slot]) {
+            return;
+        }
+        generationOf[slot] = generation;
+        if (generation > maxGeneration) {
+            maxGeneration = generation;
+            if (retention == LineageRetention.LAST_GENERATIONS) {
+                releaseOldGenerations();
+            }
+        }
+    }
+
+    private void releaseOldGenerations() {
+        while (!deadByGeneration.isEmpty() && firstDeadGeneration < maxGeneration - generations) {
+            var dead = deadByGeneration.removeFirst();
+            for (int i = 0; i < dead.size; i++) {
+                release(dead.slots[i]);
+            }
+            firstDeadGeneration++;
+        }
+    }
+
+    private void release(int slot) {
+        ids[slot] = FREE;
+        freeSlots[freeCount++] = slot;
+        size--;
+    }
+
+    private int allocateSlot() {
+        if (used == ids.length) {
+            grow();
+        }
+        return used++;
+    }
+
+    private void grow() {
+        var capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        Arrays.fill(ids, used, capacity, FREE);
+        firstParentSlots = Arrays.copyOf(firstParentSlots, capacity);
+        firstParentIds = Arrays.copyOf(firstParentIds, capacity);
+        secondParentSlots = Arrays.copyOf(secondParentSlots, capacity);
+        secondParentIds = Arrays.copyOf(secondParentIds, capacity);
+        generationOf = Arrays.copyOf(generationOf, capacity);
+        descendantCounts = Arrays.copyOf(descendantCounts, capacity);
+        marks = Arrays.copyOf(marks, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+        pending = Arrays.copyOf(pending, capacity);
+    }
+
+    private static class SlotList {
+        private int[] slots = new int[8];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package agh.ics.oop.model.event;
+
+import agh.ics.oop.model.Vector2d;
+
+public class EventCreator {
+
+    private EventCreator() {
+    }
+
+    public static MapChangedEvent createFirePlacedEvent(Vector2d firePosition) {
+        return createPositionEvent(EventType.FIRE_PLACED, firePosition);
+    }
+
+    public static MapChangedEvent createFireRemovedEvent(Vector2d firePosition) {
+        return createPositionEvent(EventType.FIRE_REMOVED, firePosition);
+    }
+
+    public static MapChangedEvent createPlantPlacedEvent(Vector2d plantPosition) {
+        return createPositionEvent(EventType.PLANT_PLACED, plantPosition);
+    }
+
+    public static MapChangedEvent createPlantRemovedEvent(Vector2d plantPosition) {
+        return createPositionEvent(EventType.PLANT_REMOVED, plantPosition);
+    }
+
+    public static MapChangedEvent createAnimalMovedEvent(Vector2d previousPosition, Vector2d animalPosition) {
+        return MapChangedEvent.builder()
+                .eventType(EventType.ANIMAL_MOVED)
+                .position(animalPosition)
+                .previousPosition(previousPosition)
+                .build();
+    }
+
+    public static MapChangedEvent createAnimalPlacedEvent(Vector2d animalPosition) {
+        return createPositionEvent(EventType.ANIMAL_PLACED, animalPosition);
+    }
+
+    public static MapChangedEvent createAnimalRemovedEvent(Vector2d animalPosition) {
+        return createPositionEvent(EventType.ANIMAL_REMOVED, animalPosition);
+    }
+
+    public static MapChangedEvent createDayEndsEvent(int dayCount) {
+        return MapChangedEvent.builder()
+                .eventType(EventType.DAY_ENDS)
+                .day(dayCount)
+                .build();
+    }
+
+    private static MapChangedEvent createPositionEvent(EventType eventType, Vector2d position) {
+        return MapChangedEvent.builder()
+                .eventType(eventType)
+                .position(position)
+                .build();
+    }
+
+}
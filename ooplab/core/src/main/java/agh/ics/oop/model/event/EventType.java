@@ -0,0 +1,21 @@
+package agh.ics.oop.model.event;
+
+import lombok.Getter;
+
+@Getter
+public enum EventType {
+    ANIMAL_MOVED("Animal moved to position: %s"),
+    ANIMAL_PLACED("Animal was placed at: %s"),
+    ANIMAL_REMOVED("Animal was removed from: %s"),
+    PLANT_PLACED("Plant was placed at %s"),
+    PLANT_REMOVED("Plant was removed from %s"),
+    FIRE_PLACED("Fire was placed at %s"),
+    FIRE_REMOVED("Fire burned out at %s"),
+    DAY_ENDS("Day %d has ended.");
+
+    private final String messageFormat;
+
+    EventType(String messageFormat) {
+        this.messageFormat = messageFormat;
+    }
+}
@@ -0,0 +1,26 @@
+package agh.ics.oop.model.event;
+
+import agh.ics.oop.model.Vector2d;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * A single change of the map. Positional events carry the changed cell, and moves also the cell the animal left, so
+ * listeners can track which cells need repainting. The message is only formatted when asked for.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class MapChangedEvent {
+    private final EventType eventType;
+    private final Vector2d position;
+    private final Vector2d previousPosition;
+    private final int day;
+
+    public String getMessage() {
+        return eventType == EventType.DAY_ENDS
+                ? String.format(eventType.getMessageFormat(), day)
+                : String.format(eventType.getMessageFormat(), position);
+    }
+}
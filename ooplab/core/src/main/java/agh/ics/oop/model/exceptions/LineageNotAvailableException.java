@@ -0,0 +1,9 @@
+package agh.ics.oop.model.exceptions;
+
+import agh.ics.oop.model.elements.Animal;
+
+public class LineageNotAvailableException extends RuntimeException {
+    public LineageNotAvailableException(Animal animal) {
+        super("Animal " + animal.hashCode() + " is tracked by a lineage store, which keeps only ids of its relatives!");
+    }
+}
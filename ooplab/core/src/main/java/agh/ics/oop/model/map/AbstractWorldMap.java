@@ -45,10 +45,11 @@ public abstract class AbstractWorldMap implements WorldMap {
     @Override
     public void move(Animal animal, MoveDirection direction) {
         if (animals.containsValue(animal)) {
-            animals.remove(animal.getPosition());
+            var previousPosition = animal.getPosition();
+            animals.remove(previousPosition);
             animal.move(direction, this);
             animals.put(animal.getPosition(), animal);
-            notifyListeners(EventCreator.createAnimalMovedEvent(animal.getPosition()));
+            notifyListeners(EventCreator.createAnimalMovedEvent(previousPosition, animal.getPosition()));
         }
     }
 
@@ -0,0 +1,16 @@
+package agh.ics.oop.model.map;
+
+/**
+ * Outcome of a placement attempt. Expected refusals are reported with a status instead of an exception, so the
+ * daily loops can try positions without paying for stack traces.
+ */
+public enum PlacementStatus {
+    PLACED,
+    OUT_OF_BOUNDS,
+    OCCUPIED,
+    REJECTED;
+
+    public boolean isPlaced() {
+        return this == PLACED;
+    }
+}
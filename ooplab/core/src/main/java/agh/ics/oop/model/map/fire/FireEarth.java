@@ -10,13 +10,15 @@ import agh.ics.oop.model.elements.WorldElement;
 import agh.ics.oop.model.event.EventCreator;
 import agh.ics.oop.model.exceptions.IncorrectPositionException;
 import agh.ics.oop.model.exceptions.PositionOccupiedByWorldElementException;
+import agh.ics.oop.model.map.PlacementStatus;
 import agh.ics.oop.model.map.plant.Earth;
-import agh.ics.oop.model.move.MoveDirection;
+import agh.ics.oop.model.snapshot.WorldSnapshot;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator.SplittableGenerator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -25,11 +27,15 @@ public class FireEarth extends Earth implements FireWorldMap, FireValidator {
     private final int fireFrequency;
     private final FireSpreader fireSpreader;
 
-    public FireEarth(int width, int height, int fireFrequency, int fireDuration, int plantGrowth, int startPlantCount, int energyGain, PlantVariant plantVariant, AnimalBreeder breeder) {
-        super(width, height, plantGrowth, startPlantCount, energyGain, plantVariant, breeder);
+    /**
+     * The generator is split between plant growth and fires, so each of them consumes its own stream.
+     */
+    public FireEarth(int width, int height, int fireFrequency, int fireDuration, int plantGrowth, int startPlantCount,
+                     int energyGain, PlantVariant plantVariant, AnimalBreeder breeder, SplittableGenerator random) {
+        super(width, height, plantGrowth, startPlantCount, energyGain, plantVariant, breeder, random.split());
         this.fireFrequency = fireFrequency;
-        this.fires = new ConcurrentHashMap<>();
-        this.fireSpreader = new FireSpreader(fireDuration);
+        this.fires = new HashMap<>();
+        this.fireSpreader = new FireSpreader(fireDuration, random.split());
     }
 
     @Override
@@ -44,24 +50,32 @@ public class FireEarth extends Earth implements FireWorldMap, FireValidator {
     }
 
     @Override
-    public void move(Animal animal, MoveDirection direction) {
-        super.move(animal, direction);
+    protected void handleAnimalMoved(Animal animal, Vector2d previousPosition) {
+        super.handleAnimalMoved(animal, previousPosition);
         if (isFireAtPosition(animal.getPosition())) {
             animal.kill();
         }
     }
 
     @Override
-    public boolean placeFire(Fire fire) {
+    public PlacementStatus tryPlaceFire(Fire fire) {
         var position = fire.getPosition();
-        if (canPlaceFire(position)) {
-            fires.put(position, fire);
-            removePlant(position);
-            notifyListeners(EventCreator.createFirePlacedEvent(fire.getPosition()));
-            return true;
+        if (!isPositionWithinMapBoundary(position)) {
+            return PlacementStatus.OUT_OF_BOUNDS;
+        }
+        if (isFireAtPosition(position)) {
+            return PlacementStatus.OCCUPIED;
+        }
+        if (!isPlantAtPosition(position)) {
+            return PlacementStatus.REJECTED;
         }
 
-        return false;
+        fires.put(position, fire);
+        occupyField(position);
+        removePlant(position);
+        freeCells.markTaken(position);
+        notifyListeners(EventCreator.createFirePlacedEvent(fire.getPosition()));
+        return PlacementStatus.PLACED;
     }
 
 
@@ -83,6 +97,21 @@ public class FireEarth extends Earth implements FireWorldMap, FireValidator {
         super.placePlant(plant);
     }
 
+    @Override
+    public PlacementStatus tryPlacePlant(Plant plant) {
+        if (isFireAtPosition(plant.getPosition())) {
+            return PlacementStatus.OCCUPIED;
+        }
+
+        return super.tryPlacePlant(plant);
+    }
+
+    @Override
+    public void writeSnapshot(WorldSnapshot.Builder builder) {
+        super.writeSnapshot(builder);
+        fires.keySet().forEach(builder::addFire);
+    }
+
     @Override
     public Collection<WorldElement> getElements() {
         return Stream
@@ -101,17 +130,26 @@ public class FireEarth extends Earth implements FireWorldMap, FireValidator {
 
     private void spreadFire() {
         var newFires = fireSpreader.getSpreadFires(fires.values(), getCurrentBounds(), this);
-        newFires.forEach(this::placeFire);
+        newFires.forEach(this::tryPlaceFire);
     }
 
     private void removeBurnedFires() {
-        fires.entrySet().removeIf(entry -> entry.getValue().isBurned());
+        var iterator = fires.values().iterator();
+        while (iterator.hasNext()) {
+            var fire = iterator.next();
+            if (fire.isBurned()) {
+                iterator.remove();
+                releaseField(fire.getPosition());
+                freeCells.markFree(fire.getPosition());
+                notifyListeners(EventCreator.createFireRemovedEvent(fire.getPosition()));
+            }
+        }
     }
 
     private void createFire() {
         var plantsPositions = new ArrayList<>(plants.keySet());
         var newFire = fireSpreader.createNewFire(plantsPositions, this);
-        newFire.ifPresent(this::placeFire);
+        newFire.ifPresent(this::tryPlaceFire);
     }
 
 }
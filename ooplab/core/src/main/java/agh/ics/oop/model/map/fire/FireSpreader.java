@@ -5,17 +5,20 @@ import agh.ics.oop.model.Vector2d;
 import agh.ics.oop.model.elements.Fire;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 class FireSpreader {
     private final int fireDuration;
+    private final RandomGenerator random;
 
-    FireSpreader(int fireDuration) {
+    FireSpreader(int fireDuration, RandomGenerator random) {
         this.fireDuration = fireDuration;
+        this.random = random;
     }
 
     Optional<Fire> createNewFire(List<Vector2d> availablePositions, FireValidator fireValidator) {
-        Collections.shuffle(availablePositions);
+        Collections.shuffle(availablePositions, random);
         return availablePositions.stream()
                 .filter(fireValidator::canPlaceFire)
                 .findAny()
@@ -30,11 +33,11 @@ class FireSpreader {
                 .distinct()
                 .filter(fireValidator::canPlaceFire)
                 .map(pos -> new Fire(pos, fireDuration))
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
 
-    private Set<Vector2d> getAdjacentFields(Vector2d position, Boundary boundary) {
+    private List<Vector2d> getAdjacentFields(Vector2d position, Boundary boundary) {
         var x = position.getX();
         var y = position.getY();
 
@@ -48,6 +51,6 @@ class FireSpreader {
         Vector2d neighbour3 = new Vector2d(leftX, y);
         Vector2d neighbour4 = new Vector2d(rightX, y);
 
-        return Set.of(neighbour1, neighbour2, neighbour3, neighbour4);
+        return List.of(neighbour1, neighbour2, neighbour3, neighbour4);
     }
 }
@@ -2,10 +2,15 @@ package agh.ics.oop.model.map.fire;
 
 import agh.ics.oop.model.Vector2d;
 import agh.ics.oop.model.elements.Fire;
+import agh.ics.oop.model.map.PlacementStatus;
 import agh.ics.oop.model.map.plant.PlantWorldMap;
 
 public interface FireWorldMap extends PlantWorldMap {
     boolean isFireAtPosition(Vector2d position);
 
-    boolean placeFire(Fire fire);
+    PlacementStatus tryPlaceFire(Fire fire);
+
+    default boolean placeFire(Fire fire) {
+        return tryPlaceFire(fire).isPlaced();
+    }
 }
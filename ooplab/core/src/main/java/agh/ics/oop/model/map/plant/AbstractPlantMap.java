@@ -0,0 +1,84 @@
+package agh.ics.oop.model.map.plant;
+
+import agh.ics.oop.listener.StatisticsChangeListener;
+import agh.ics.oop.model.Boundary;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.elements.Plant;
+import agh.ics.oop.model.event.EventCreator;
+import agh.ics.oop.model.exceptions.IncorrectPositionException;
+import agh.ics.oop.model.exceptions.PositionOccupiedByWorldElementException;
+import agh.ics.oop.model.exceptions.PositionOutOfMapBoundaryException;
+import agh.ics.oop.model.map.PlacementStatus;
+import agh.ics.oop.model.map.simulation.SimulationAbstractWorldMap;
+import agh.ics.oop.model.snapshot.WorldSnapshot;
+import agh.ics.oop.model.util.FreeCellIndex;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public abstract class AbstractPlantMap extends SimulationAbstractWorldMap implements PlantWorldMap {
+    protected final Map<Vector2d, Plant> plants;
+    protected final FreeCellIndex freeCells;
+
+    protected AbstractPlantMap(int width, int height, Boundary preferredPlantArea) {
+        super(width, height);
+        this.plants = new HashMap<>();
+        this.freeCells = new FreeCellIndex(width, height, preferredPlantArea);
+    }
+
+    @Override
+    public void placePlant(Plant plant) throws IncorrectPositionException {
+        switch (tryPlacePlant(plant)) {
+            case OUT_OF_BOUNDS -> throw new PositionOutOfMapBoundaryException(plant.getPosition());
+            case OCCUPIED, REJECTED ->
+                    throw new PositionOccupiedByWorldElementException(plant.getPosition(), Plant.class.getSimpleName());
+            case PLACED -> {
+            }
+        }
+    }
+
+    @Override
+    public PlacementStatus tryPlacePlant(Plant plant) {
+        var position = plant.getPosition();
+        if (!isPositionWithinMapBoundary(position)) {
+            return PlacementStatus.OUT_OF_BOUNDS;
+        }
+        if (isPlantAtPosition(position)) {
+            return PlacementStatus.OCCUPIED;
+        }
+
+        plants.put(position, plant);
+        freeCells.markTaken(position);
+        occupyField(position);
+        statisticsListener.plantPlaced();
+        notifyListeners(EventCreator.createPlantPlacedEvent(position));
+        return PlacementStatus.PLACED;
+    }
+
+    @Override
+    public void removePlant(Vector2d position) {
+        if (plants.remove(position) != null) {
+            freeCells.markFree(position);
+            releaseField(position);
+            statisticsListener.plantRemoved();
+            notifyListeners(EventCreator.createPlantRemovedEvent(position));
+        }
+    }
+
+    @Override
+    public void writeSnapshot(WorldSnapshot.Builder builder) {
+        super.writeSnapshot(builder);
+        plants.keySet().forEach(builder::addPlant);
+    }
+
+    @Override
+    public void setStatisticsListener(StatisticsChangeListener statisticsListener) {
+        super.setStatisticsListener(statisticsListener);
+        plants.values().forEach(plant -> statisticsListener.plantPlaced());
+    }
+
+    @Override
+    public boolean isPlantAtPosition(Vector2d position) {
+        return plants.containsKey(position);
+    }
+}
@@ -0,0 +1,239 @@
+package agh.ics.oop.model.map.plant;
+
+import agh.ics.oop.model.AnimalBreeder;
+import agh.ics.oop.model.Boundary;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.configuration.PlantVariant;
+import agh.ics.oop.model.elements.Animal;
+import agh.ics.oop.model.elements.WorldElement;
+import agh.ics.oop.model.map.simulation.CellSelection;
+import agh.ics.oop.model.map.simulation.SimulationWorldMap;
+import agh.ics.oop.model.move.Move;
+import agh.ics.oop.model.move.MoveAdjuster;
+import agh.ics.oop.model.move.MoveDirection;
+import agh.ics.oop.model.util.AnimalComparator;
+import agh.ics.oop.model.util.ParallelRange;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class Earth extends AbstractPlantMap implements MoveAdjuster, SimulationWorldMap {
+    private static final int BANDS_PER_THREAD = 4;
+
+    private final Boundary boundary;
+    private final Gardener gardener;
+    private final AnimalBreeder breeder;
+    private final AnimalComparator animalComparator = new AnimalComparator();
+    private final CellSelection cellSelection = new CellSelection(animalComparator);
+    private Animal[] strongest;
+    private Animal[] firstBreeders;
+    private Animal[] secondBreeders;
+
+
+    public Earth(int width, int height, int plantGrowth, int startPlantCount, int energyGain, PlantVariant plantVariant,
+                 AnimalBreeder breeder, RandomGenerator random) {
+        this(new Boundary(new Vector2d(0, 0), new Vector2d(width - 1, height - 1)), plantGrowth, startPlantCount, energyGain,
+                plantVariant, breeder, random);
+    }
+
+    private Earth(Boundary boundary, int plantGrowth, int startPlantCount, int energyGain, PlantVariant plantVariant,
+                  AnimalBreeder breeder, RandomGenerator random) {
+        super(boundary.rightTopCorner().getX() + 1, boundary.rightTopCorner().getY() + 1,
+                Gardener.getPreferredArea(plantVariant, boundary));
+        this.boundary = boundary;
+        gardener = new Gardener(plantVariant, plantGrowth, energyGain, random);
+        this.breeder = breeder;
+        initPlants(startPlantCount);
+    }
+
+    @Override
+    public void handleDayEnds(int currentDay) {
+        resolveCells();
+        growPlantsDaily();
+    }
+
+
+    @Override
+    public Boundary getCurrentBounds() {
+        return boundary;
+    }
+
+    @Override
+    public boolean canMoveTo(Vector2d position) {
+        var topRightMaxMove = boundary.rightTopCorner().add(new Vector2d(1, 1));
+        var bottomLeftMaxMove = boundary.leftBottomCorner().add(new Vector2d(-1, -1));
+        return position.follows(bottomLeftMaxMove) && position.precedes(topRightMaxMove);
+    }
+
+    @Override
+    public Collection<WorldElement> getElements() {
+        return Stream
+                .concat(super.getElements().stream(), plants.values().stream())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+
+    @Override
+    public Move adjustMove(Move move) {
+        var position = move.getToPosition();
+        var orientation = move.getOrientation();
+
+        if (position.isUnder(boundary.leftBottomCorner())) {
+            position = new Vector2d(position.getX(), boundary.leftBottomCorner().getY());
+            orientation = orientation.rotateRightAngleClockwise().rotateRightAngleClockwise();
+        }
+        if (position.isAbove(boundary.rightTopCorner())) {
+            position = new Vector2d(position.getX(), boundary.rightTopCorner().getY());
+            orientation = orientation.rotateRightAngleClockwise().rotateRightAngleClockwise();
+        }
+        if (position.isOnTheLeft(boundary.leftBottomCorner())) {
+            position = new Vector2d(boundary.rightTopCorner().getX(), position.getY());
+        }
+        if (position.isOnTheRight(boundary.rightTopCorner())) {
+            position = new Vector2d(boundary.leftBottomCorner().getX(), position.getY());
+        }
+
+        return new Move(position, orientation);
+    }
+
+    @Override
+    public void move(Animal animal, MoveDirection direction) {
+        if (removeAnimalFromPosition(animal)) {
+            var previousPosition = animal.getPosition();
+            advance(animal);
+            placeAnimalAtNewPosition(animal);
+            handleAnimalMoved(animal, previousPosition);
+        }
+    }
+
+    @Override
+    protected void advance(Animal animal) {
+        animal.move(this, this);
+    }
+
+    @Override
+    public Optional<WorldElement> objectAt(Vector2d position) {
+        return super.objectAt(position)
+                .or(() -> Optional.ofNullable(plants.get(position)));
+    }
+
+
+    List<Animal> getAnimalsAtPosition(Vector2d position) {
+        return animals.animalsAt(position);
+    }
+
+
+    /**
+     * Resolves every occupied cell in one pass: the strongest animal eats the plant, then the two strongest animals
+     * able to breed make a child. Cells do not affect each other, so this matches eating everywhere before breeding.
+     */
+    private void resolveCells() {
+        if (dayStepPool != null) {
+            resolveCellsInParallel();
+            return;
+        }
+
+        var count = animals.getOccupiedCellsCount();
+        for (int slot = 0; slot < count; slot++) {
+            resolveCell(animals.getOccupiedCell(slot));
+        }
+    }
+
+    private void resolveCell(int cell) {
+        cellSelection.resolve(animals, cell);
+        feedAndBreed(cell);
+    }
+
+    /**
+     * Lets the strongest animal of the current selection eat, updates the breeders for its new energy, and breeds
+     * the pair. Shared by the sequential and the parallel pass, so they give the same world.
+     */
+    private void feedAndBreed(int cell) {
+        var position = animals.cellPosition(cell);
+        if (isPlantAtPosition(position)) {
+            var eater = cellSelection.getStrongest();
+            var energyBefore = eater.getEnergy();
+            handleAnimalStepOnPlant(eater);
+            if (eater.getEnergy() >= energyBefore) {
+                cellSelection.promoteStrongest();
+            } else {
+                cellSelection.resolveBreeders(animals, cell);
+            }
+        }
+        if (cellSelection.hasBreedingPair()) {
+            breedChild(cellSelection.getFirstBreeder(), cellSelection.getSecondBreeder());
+        }
+    }
+
+    /**
+     * Selects the strongest animals and breeding pairs on the pool, with every task taking a contiguous band of the
+     * occupied cells, so empty cells are never visited. Only this scan runs in parallel: eating and breeding draw from
+     * the shared randomness and update the plants, the lineage and the statistics, so the selections are applied on
+     * the calling thread in the order of the occupied cells, the same as the sequential pass. That keeps the outcome
+     * independent of the number of threads.
+     */
+    private void resolveCellsInParallel() {
+        var count = animals.getOccupiedCellsCount();
+        if (strongest == null) {
+            var cellCount = animals.getWidth() * animals.getHeight();
+            strongest = new Animal[cellCount];
+            firstBreeders = new Animal[cellCount];
+            secondBreeders = new Animal[cellCount];
+        }
+        var bandCount = Math.max(1, Math.min(count, dayStepPool.getParallelism() * BANDS_PER_THREAD));
+        ParallelRange.forEach(dayStepPool, bandCount, 1,
+                band -> selectInBand(count * band / bandCount, count * (band + 1) / bandCount));
+
+        for (int slot = 0; slot < count; slot++) {
+            applySelection(animals.getOccupiedCell(slot));
+        }
+    }
+
+    private void selectInBand(int fromSlot, int toSlot) {
+        var selection = new CellSelection(animalComparator);
+        for (int slot = fromSlot; slot < toSlot; slot++) {
+            var cell = animals.getOccupiedCell(slot);
+            selection.resolve(animals, cell);
+            strongest[cell] = selection.getStrongest();
+            firstBreeders[cell] = selection.getFirstBreeder();
+            secondBreeders[cell] = selection.getSecondBreeder();
+        }
+    }
+
+    private void applySelection(int cell) {
+        cellSelection.restore(strongest[cell], firstBreeders[cell], secondBreeders[cell]);
+        strongest[cell] = null;
+        firstBreeders[cell] = null;
+        secondBreeders[cell] = null;
+        feedAndBreed(cell);
+    }
+
+    private void handleAnimalStepOnPlant(Animal animal) {
+        var position = animal.getPosition();
+        animal.eat(plants.get(position));
+        removePlant(position);
+    }
+
+    private void breedChild(Animal parent1, Animal parent2) {
+        var child = breeder.breed(parent1, parent2);
+        if (!tryPlace(child).isPlaced()) {
+            // the child is born on its parents' cell, so this only happens if the map rejects it, and then it never
+            // joins the simulation
+            breeder.discard(child);
+        }
+    }
+
+    private void initPlants(int startPlantCount) {
+        gardener.createPlants(freeCells, startPlantCount).forEach(this::tryPlacePlant);
+    }
+
+    private void growPlantsDaily() {
+        gardener.createPlantsDaily(freeCells).forEach(this::tryPlacePlant);
+    }
+
+}
+
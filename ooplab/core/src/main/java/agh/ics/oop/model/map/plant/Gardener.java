@@ -0,0 +1,52 @@
+package agh.ics.oop.model.map.plant;
+
+import agh.ics.oop.model.Boundary;
+import agh.ics.oop.model.configuration.PlantVariant;
+import agh.ics.oop.model.elements.Plant;
+import agh.ics.oop.model.util.FreeCellIndex;
+import agh.ics.oop.model.util.PlantPreferableAreaCalculator;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+class Gardener {
+    private final int plantGrowth;
+    private final int plantEnergyGain;
+    private final PlantVariant plantVariant;
+    private final RandomGenerator random;
+
+    Gardener(PlantVariant plantVariant, int plantGrowth, int energyGain, RandomGenerator random) {
+        this.random = random;
+        this.plantGrowth = plantGrowth;
+        this.plantEnergyGain = energyGain;
+        this.plantVariant = plantVariant;
+    }
+
+    static Boundary getPreferredArea(PlantVariant plantVariant, Boundary boundary) {
+        return switch (plantVariant) {
+            case FORESTED_EQUATORS -> PlantPreferableAreaCalculator.getPreferableArea(boundary);
+            case FULL_RANDOM -> boundary;
+        };
+    }
+
+    Set<Plant> createPlantsDaily(FreeCellIndex freeCells) {
+        return createPlants(freeCells, plantGrowth);
+    }
+
+    /**
+     * Draws the positions from the index, so they are already marked taken when the plants are placed.
+     */
+    Set<Plant> createPlants(FreeCellIndex freeCells, int plantCount) {
+        var plants = new LinkedHashSet<Plant>();
+        for (int i = 0; i < plantCount; i++) {
+            var position = freeCells.takeRandom(random);
+            if (position.isEmpty()) {
+                break;
+            }
+            plants.add(new Plant(position.get(), plantEnergyGain));
+        }
+
+        return plants;
+    }
+}
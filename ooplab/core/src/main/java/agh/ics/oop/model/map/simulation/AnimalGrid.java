@@ -0,0 +1,218 @@
+package agh.ics.oop.model.map.simulation;
+
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.elements.Animal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Cell-indexed animal storage. Cell {@code (x, y)} lives at index {@code y * width + x} of a flat array and keeps
+ * its animals in a compact array, so lookups and moves need no hashing. Occupied cells are additionally kept in
+ * a dense list, which lets per-cell phases skip empty cells.
+ * <p>
+ * Arrays are only ever replaced by bigger copies, so a concurrent reader may observe a stale cell, but never fails.
+ */
+public class AnimalGrid {
+    private static final int INITIAL_CELL_CAPACITY = 2;
+    private static final int NOT_OCCUPIED = -1;
+
+    private final int width;
+    private final int height;
+    private final Animal[][] cells;
+    private final int[] cellSizes;
+    private final int[] occupiedCells;
+    private final int[] occupiedSlots;
+    private volatile int occupiedCount;
+    private volatile int animalCount;
+
+    public AnimalGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.cells = new Animal[width * height][];
+        this.cellSizes = new int[width * height];
+        this.occupiedCells = new int[width * height];
+        this.occupiedSlots = new int[width * height];
+        Arrays.fill(occupiedSlots, NOT_OCCUPIED);
+    }
+
+    public boolean contains(Vector2d position) {
+        return position.getX() >= 0 && position.getX() < width && position.getY() >= 0 && position.getY() < height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int cellIndex(Vector2d position) {
+        return position.getY() * width + position.getX();
+    }
+
+    public Vector2d cellPosition(int cell) {
+        return new Vector2d(cell % width, cell / width);
+    }
+
+    public void add(Animal animal) {
+        var cell = cellIndex(animal.getPosition());
+        var animals = cells[cell];
+        var size = cellSizes[cell];
+
+        if (animals == null) {
+            animals = new Animal[INITIAL_CELL_CAPACITY];
+            cells[cell] = animals;
+        } else if (size == animals.length) {
+            animals = Arrays.copyOf(animals, size * 2);
+            cells[cell] = animals;
+        }
+
+        animals[size] = animal;
+        cellSizes[cell] = size + 1;
+        animalCount++;
+        if (size == 0) {
+            markOccupied(cell);
+        }
+    }
+
+    public boolean remove(Animal animal) {
+        var position = animal.getPosition();
+        if (!contains(position)) {
+            return false;
+        }
+
+        var cell = cellIndex(position);
+        var animals = cells[cell];
+        var size = cellSizes[cell];
+        for (int i = 0; i < size; i++) {
+            if (animals[i] == animal) {
+                removeAt(cell, i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves an animal, whose position has already been updated, from the given cell to the cell of its position. The
+     * same as removing it before the update and adding it afterwards.
+     */
+    public void move(Animal animal, int fromCell) {
+        var animals = cells[fromCell];
+        var size = cellSizes[fromCell];
+        for (int i = 0; i < size; i++) {
+            if (animals[i] == animal) {
+                removeAt(fromCell, i);
+                add(animal);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the animals matching the predicate and copies the remaining ones into the given buffer, which is
+     * replaced by a bigger one when needed. The first {@link #getAnimalCount()} entries of the returned buffer are
+     * the remaining animals, so they can be processed afterwards without walking the cells again.
+     */
+    public Animal[] removeIfAndCollect(Predicate<Animal> predicate, Consumer<Animal> onRemoved, Animal[] remaining) {
+        var result = remaining.length >= animalCount ? remaining : new Animal[Math.max(animalCount, remaining.length * 2)];
+        var collected = 0;
+        for (int slot = occupiedCount - 1; slot >= 0; slot--) {
+            var cell = occupiedCells[slot];
+            var animals = cells[cell];
+            for (int i = cellSizes[cell] - 1; i >= 0; i--) {
+                var animal = animals[i];
+                if (predicate.test(animal)) {
+                    removeAt(cell, i);
+                    onRemoved.accept(animal);
+                } else {
+                    result[collected++] = animal;
+                }
+            }
+        }
+        return result;
+    }
+
+    public int sizeAt(Vector2d position) {
+        return contains(position) ? cellSizes[cellIndex(position)] : 0;
+    }
+
+    public int sizeAt(int cell) {
+        return cellSizes[cell];
+    }
+
+    public Animal get(int cell, int index) {
+        return cells[cell][index];
+    }
+
+    public List<Animal> animalsAt(Vector2d position) {
+        if (!contains(position)) {
+            return new ArrayList<>();
+        }
+        return animalsAt(cellIndex(position));
+    }
+
+    public List<Animal> animalsAt(int cell) {
+        var animals = cells[cell];
+        var size = Math.min(cellSizes[cell], animals == null ? 0 : animals.length);
+        var result = new ArrayList<Animal>(size);
+        for (int i = 0; i < size; i++) {
+            if (animals[i] != null) {
+                result.add(animals[i]);
+            }
+        }
+        return result;
+    }
+
+    public int getOccupiedCellsCount() {
+        return occupiedCount;
+    }
+
+    public int getOccupiedCell(int slot) {
+        return occupiedCells[slot];
+    }
+
+    public int getAnimalCount() {
+        return animalCount;
+    }
+
+    public void forEach(Consumer<Animal> action) {
+        var count = occupiedCount;
+        for (int slot = 0; slot < count; slot++) {
+            animalsAt(occupiedCells[slot]).forEach(action);
+        }
+    }
+
+    private void removeAt(int cell, int index) {
+        var animals = cells[cell];
+        var last = cellSizes[cell] - 1;
+        animals[index] = animals[last];
+        animals[last] = null;
+        cellSizes[cell] = last;
+        animalCount--;
+        if (last == 0) {
+            markFree(cell);
+        }
+    }
+
+    private void markOccupied(int cell) {
+        occupiedSlots[cell] = occupiedCount;
+        occupiedCells[occupiedCount] = cell;
+        occupiedCount++;
+    }
+
+    private void markFree(int cell) {
+        var slot = occupiedSlots[cell];
+        var lastSlot = occupiedCount - 1;
+        var lastCell = occupiedCells[lastSlot];
+        occupiedCells[slot] = lastCell;
+        occupiedSlots[lastCell] = slot;
+        occupiedSlots[cell] = NOT_OCCUPIED;
+        occupiedCount = lastSlot;
+    }
+}
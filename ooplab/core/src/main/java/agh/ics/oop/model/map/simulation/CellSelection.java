@@ -0,0 +1,87 @@
+package agh.ics.oop.model.map.simulation;
+
+import agh.ics.oop.model.elements.Animal;
+import lombok.Getter;
+
+import java.util.Comparator;
+
+/**
+ * Picks the strongest animal and the two strongest animals able to breed from a single {@link AnimalGrid} cell in
+ * one scan, without sorting or allocating. Ties are broken like a stable sort would, so among equally strong animals
+ * the one stored first in the cell wins.
+ */
+@Getter
+public class CellSelection {
+    private final Comparator<Animal> comparator;
+    private Animal strongest;
+    private Animal firstBreeder;
+    private Animal secondBreeder;
+
+    public CellSelection(Comparator<Animal> comparator) {
+        this.comparator = comparator;
+    }
+
+    public void resolve(AnimalGrid grid, int cell) {
+        strongest = null;
+        firstBreeder = null;
+        secondBreeder = null;
+        var size = grid.sizeAt(cell);
+        for (int i = 0; i < size; i++) {
+            var animal = grid.get(cell, i);
+            if (strongest == null || comparator.compare(animal, strongest) > 0) {
+                strongest = animal;
+            }
+            if (animal.canMakeChild()) {
+                offerBreeder(animal);
+            }
+        }
+    }
+
+    /**
+     * Takes over a selection made earlier, e.g. by another instance on a pool thread, so it can be updated here.
+     */
+    public void restore(Animal strongest, Animal firstBreeder, Animal secondBreeder) {
+        this.strongest = strongest;
+        this.firstBreeder = firstBreeder;
+        this.secondBreeder = secondBreeder;
+    }
+
+    /**
+     * Updates the breeders after the strongest animal got stronger, e.g. by eating. It stays the strongest one, so it
+     * only has to be put in front of the breeders once it is able to breed.
+     */
+    public void promoteStrongest() {
+        if (strongest != null && strongest != firstBreeder && strongest.canMakeChild()) {
+            secondBreeder = firstBreeder;
+            firstBreeder = strongest;
+        }
+    }
+
+    /**
+     * Selects the breeders again, for when the strongest animal may have lost its position.
+     */
+    public void resolveBreeders(AnimalGrid grid, int cell) {
+        firstBreeder = null;
+        secondBreeder = null;
+        var size = grid.sizeAt(cell);
+        for (int i = 0; i < size; i++) {
+            var animal = grid.get(cell, i);
+            if (animal.canMakeChild()) {
+                offerBreeder(animal);
+            }
+        }
+    }
+
+    public boolean hasBreedingPair() {
+        return secondBreeder != null;
+    }
+
+    private void offerBreeder(Animal animal) {
+        if (firstBreeder == null || comparator.compare(animal, firstBreeder) > 0) {
+            secondBreeder = firstBreeder;
+            firstBreeder = animal;
+        } else if (secondBreeder == null || comparator.compare(animal, secondBreeder) > 0) {
+            secondBreeder = animal;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package agh.ics.oop.model.map.simulation;
+
+import agh.ics.oop.listener.StatisticsChangeListener;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.elements.Animal;
+import agh.ics.oop.model.elements.WorldElement;
+import agh.ics.oop.model.event.EventCreator;
+import agh.ics.oop.model.exceptions.IncorrectPositionException;
+import agh.ics.oop.model.exceptions.PositionOutOfMapBoundaryException;
+import agh.ics.oop.model.map.AbstractWorldMap;
+import agh.ics.oop.model.map.PlacementStatus;
+import agh.ics.oop.model.move.MoveDirection;
+import agh.ics.oop.model.snapshot.WorldSnapshot;
+import agh.ics.oop.model.util.ParallelRange;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public abstract class SimulationAbstractWorldMap extends AbstractWorldMap implements SimulationWorldMap {
+    private static final int MOVE_CHUNK_SIZE = 1024;
+
+    protected final AnimalGrid animals;
+    protected ForkJoinPool dayStepPool;
+    private int[] fromCells = new int[0];
+    private final int[] fieldElementCounts;
+    protected StatisticsChangeListener statisticsListener = StatisticsChangeListener.NONE;
+    private Animal[] livingAnimals = new Animal[0];
+
+    protected SimulationAbstractWorldMap(int width, int height) {
+        this.animals = new AnimalGrid(width, height);
+        this.fieldElementCounts = new int[width * height];
+    }
+
+    @Override
+    public void place(Animal animal) throws IncorrectPositionException {
+        if (!tryPlace(animal).isPlaced()) {
+            throw new PositionOutOfMapBoundaryException(animal.getPosition());
+        }
+    }
+
+    @Override
+    public PlacementStatus tryPlace(Animal animal) {
+        if (!isPositionWithinMapBoundary(animal.getPosition())) {
+            return PlacementStatus.OUT_OF_BOUNDS;
+        }
+
+        placeAnimalAtNewPosition(animal);
+        animal.setStatisticsListener(statisticsListener);
+        statisticsListener.animalPlaced(animal);
+        notifyListeners(EventCreator.createAnimalPlacedEvent(animal.getPosition()));
+        return PlacementStatus.PLACED;
+    }
+
+    @Override
+    public boolean isOccupied(Vector2d position) {
+        return animals.sizeAt(position) > 0;
+    }
+
+    @Override
+    public Optional<WorldElement> objectAt(Vector2d position) {
+        return animals.animalsAt(position)
+                .stream()
+                .findFirst()
+                .map(WorldElement.class::cast);
+    }
+
+    @Override
+    public Collection<WorldElement> getElements() {
+        return getAnimals().stream().collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public List<Animal> getAnimalsAt(Vector2d position) {
+        return animals.animalsAt(position);
+    }
+
+    @Override
+    public Set<Animal> getAnimals() {
+        var result = new HashSet<Animal>(animals.getAnimalCount());
+        animals.forEach(result::add);
+        return Collections.unmodifiableSet(result);
+    }
+
+    @Override
+    public void clearDeadAndMoveAnimals(Consumer<Animal> onDeath, Consumer<Animal> afterMove) {
+        livingAnimals = animals.removeIfAndCollect(Animal::isDead, animal -> {
+            onDeath.accept(animal);
+            handleAnimalRemoved(animal);
+        }, livingAnimals);
+        var count = animals.getAnimalCount();
+        if (dayStepPool != null) {
+            moveAnimalsInParallel(count, afterMove);
+            return;
+        }
+
+        for (int i = 0; i < count; i++) {
+            var animal = livingAnimals[i];
+            livingAnimals[i] = null;
+            move(animal, MoveDirection.FORWARD);
+            afterMove.accept(animal);
+        }
+    }
+
+    @Override
+    public void setDayStepPool(ForkJoinPool dayStepPool) {
+        this.dayStepPool = dayStepPool;
+    }
+
+    @Override
+    public void setStatisticsListener(StatisticsChangeListener statisticsListener) {
+        this.statisticsListener = statisticsListener;
+        animals.forEach(animal -> {
+            animal.setStatisticsListener(statisticsListener);
+            statisticsListener.animalPlaced(animal);
+        });
+        for (var count : fieldElementCounts) {
+            if (count > 0) {
+                statisticsListener.fieldOccupied();
+            }
+        }
+    }
+
+    @Override
+    public void writeSnapshot(WorldSnapshot.Builder builder) {
+        animals.forEach(builder::addAnimal);
+    }
+
+    @Override
+    public final void sendDayHasEndedNotification(int currentDay) {
+        notifyListeners(EventCreator.createDayEndsEvent(currentDay));
+    }
+
+    /**
+     * Computes the next position and orientation of the animal without touching the grid. Called concurrently for
+     * different animals in the parallel day step.
+     */
+    protected abstract void advance(Animal animal);
+
+    protected void handleAnimalMoved(Animal animal, Vector2d previousPosition) {
+        notifyListeners(EventCreator.createAnimalMovedEvent(previousPosition, animal.getPosition()));
+    }
+
+    protected void placeAnimalAtNewPosition(Animal animal) {
+        animals.add(animal);
+        occupyField(animal.getPosition());
+    }
+
+    protected boolean removeAnimalFromPosition(Animal animal) {
+        if (animals.remove(animal)) {
+            releaseField(animal.getPosition());
+            return true;
+        }
+        return false;
+    }
+
+    protected void occupyField(Vector2d position) {
+        if (fieldElementCounts[animals.cellIndex(position)]++ == 0) {
+            statisticsListener.fieldOccupied();
+        }
+    }
+
+    protected void releaseField(Vector2d position) {
+        releaseField(animals.cellIndex(position));
+    }
+
+    private void releaseField(int cell) {
+        if (--fieldElementCounts[cell] == 0) {
+            statisticsListener.fieldReleased();
+        }
+    }
+
+    /**
+     * Advances all living animals on the pool, then moves them between the cells in their collection order. The grid
+     * goes through the same removals and additions as in the sequential pass, so the cells end up in the same order
+     * and the outcome depends neither on the threads nor on whether the step is parallel at all.
+     */
+    private void moveAnimalsInParallel(int count, Consumer<Animal> afterMove) {
+        if (fromCells.length < count) {
+            fromCells = new int[livingAnimals.length];
+        }
+        ParallelRange.forEach(dayStepPool, count, MOVE_CHUNK_SIZE, i -> {
+            var animal = livingAnimals[i];
+            fromCells[i] = animals.cellIndex(animal.getPosition());
+            advance(animal);
+        });
+
+        for (int i = 0; i < count; i++) {
+            var animal = livingAnimals[i];
+            livingAnimals[i] = null;
+            animals.move(animal, fromCells[i]);
+            releaseField(fromCells[i]);
+            occupyField(animal.getPosition());
+            handleAnimalMoved(animal, animals.cellPosition(fromCells[i]));
+            afterMove.accept(animal);
+        }
+    }
+
+    private void handleAnimalRemoved(Animal animal) {
+        releaseField(animal.getPosition());
+        statisticsListener.animalRemoved(animal);
+        animal.setStatisticsListener(StatisticsChangeListener.NONE);
+        notifyListeners(EventCreator.createAnimalRemovedEvent(animal.getPosition()));
+    }
+
+}
@@ -0,0 +1,43 @@
+package agh.ics.oop.model.map.simulation;
+
+import agh.ics.oop.listener.StatisticsChangeListener;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.elements.Animal;
+import agh.ics.oop.model.map.PlacementStatus;
+import agh.ics.oop.model.map.WorldMap;
+import agh.ics.oop.model.snapshot.WorldSnapshot;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+public interface SimulationWorldMap extends WorldMap {
+    void handleDayEnds(int currentDay);
+
+    PlacementStatus tryPlace(Animal animal);
+
+    /**
+     * Removes dead animals, reporting each of them to {@code onDeath} before it leaves the map, and then moves every
+     * living animal forward and passes it to {@code afterMove}, without building any intermediate collection.
+     */
+    void clearDeadAndMoveAnimals(Consumer<Animal> onDeath, Consumer<Animal> afterMove);
+
+    Set<Animal> getAnimals();
+
+    List<Animal> getAnimalsAt(Vector2d position);
+
+    void sendDayHasEndedNotification(int currentDay);
+
+    /**
+     * Enables the parallel day step on the given pool, or disables it when {@code null}.
+     */
+    void setDayStepPool(ForkJoinPool dayStepPool);
+
+    void setStatisticsListener(StatisticsChangeListener statisticsListener);
+
+    /**
+     * Writes the current animals, plants and fires into the snapshot builder.
+     */
+    void writeSnapshot(WorldSnapshot.Builder builder);
+}
@@ -0,0 +1,84 @@
+package agh.ics.oop.model.repository;
+
+import agh.ics.oop.model.statistics.DeathRecord;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends death records to {@code <worldMapUuid>.deaths} as fixed-size big-endian binary rows, so long runs can be
+ * analysed afterwards without keeping dead animals in memory.
+ */
+public class BinaryDeathRecordRepositoryAdapter implements DeathRecordRepositoryPort, Closeable {
+    private static final String EXTENSION = "deaths";
+    private static final int ROW_SIZE = 5 * Integer.BYTES + Long.BYTES;
+    private final File directory;
+    private DataOutputStream output;
+    private boolean closed;
+
+    public BinaryDeathRecordRepositoryAdapter(String path) {
+        directory = DirectoryInitializer.getDirectory(path);
+    }
+
+    public BinaryDeathRecordRepositoryAdapter() {
+        this("statistics");
+    }
+
+    /**
+     * Appends the record, or drops it once the repository has been closed, which happens when a day still being
+     * simulated ends after the window was closed.
+     */
+    @Override
+    public synchronized void save(DeathRecord deathRecord, String worldMapUuid) {
+        if (closed) {
+            return;
+        }
+        try {
+            initializeOutput(worldMapUuid);
+            output.writeInt(deathRecord.animalId());
+            output.writeInt(deathRecord.startDay());
+            output.writeInt(deathRecord.endDay());
+            output.writeInt(deathRecord.countOfChildren());
+            output.writeInt(deathRecord.countOfEatenPlants());
+            output.writeLong(deathRecord.genomeFingerprint());
+        } catch (IOException e) {
+            System.out.println("Failed to save death record: e=" + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads all complete rows. A truncated last row, left when the process stopped before the buffer was flushed, is
+     * skipped.
+     */
+    public List<DeathRecord> load(String worldMapUuid) throws IOException {
+        var records = new ArrayList<DeathRecord>();
+        var file = getFile(worldMapUuid);
+        var rows = file.length() / ROW_SIZE;
+        try (var input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            for (long row = 0; row < rows; row++) {
+                records.add(new DeathRecord(input.readInt(), input.readInt(), input.readInt(), input.readInt(),
+                        input.readInt(), input.readLong()));
+            }
+        }
+        return records;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        if (output != null) {
+            output.close();
+        }
+    }
+
+    private void initializeOutput(String worldMapUuid) throws IOException {
+        if (output == null) {
+            output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(getFile(worldMapUuid), true)));
+        }
+    }
+
+    private File getFile(String worldMapUuid) {
+        return new File(directory, String.format("%s.%s", worldMapUuid, EXTENSION));
+    }
+}
@@ -8,8 +8,9 @@ public class CsvStatisticsRepositoryAdapter implements StatisticsRepositoryPort,
     private static final String DELIMITER = ";";
     private final File directory;
     private BufferedWriter writer;
+    private boolean closed;
 
-    CsvStatisticsRepositoryAdapter(String path) {
+    public CsvStatisticsRepositoryAdapter(String path) {
         directory = DirectoryInitializer.getDirectory(path);
     }
 
@@ -18,7 +19,10 @@ public class CsvStatisticsRepositoryAdapter implements StatisticsRepositoryPort,
     }
 
     @Override
-    public void save(Statistics statistics, String worldMapUuid) {
+    public synchronized void save(Statistics statistics, String worldMapUuid) {
+        if (closed) {
+            return;
+        }
         var fileName = String.format("%s.csv", worldMapUuid);
         var file = new File(directory, fileName);
 
@@ -35,7 +39,8 @@ public class CsvStatisticsRepositoryAdapter implements StatisticsRepositoryPort,
 
 
     @Override
-    public void close() throws IOException {
+    public synchronized void close() throws IOException {
+        closed = true;
         if (writer != null) {
             writer.close();
         }
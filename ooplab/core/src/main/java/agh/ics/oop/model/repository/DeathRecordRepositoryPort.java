@@ -0,0 +1,11 @@
+package agh.ics.oop.model.repository;
+
+import agh.ics.oop.model.statistics.DeathRecord;
+
+import java.io.IOException;
+
+public interface DeathRecordRepositoryPort {
+    void save(DeathRecord deathRecord, String worldMapUuid);
+
+    void close() throws IOException;
+}
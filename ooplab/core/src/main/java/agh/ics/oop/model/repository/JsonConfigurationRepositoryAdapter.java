@@ -17,7 +17,7 @@ public class JsonConfigurationRepositoryAdapter implements ConfigurationReposito
     private final File directory;
     public static final String JSON_EXTENSION = "%s.json";
 
-    JsonConfigurationRepositoryAdapter(String path) {
+    public JsonConfigurationRepositoryAdapter(String path) {
         directory = DirectoryInitializer.getDirectory(path);
         loadSaveNames();
     }
@@ -0,0 +1,27 @@
+package agh.ics.oop.model.snapshot;
+
+import agh.ics.oop.model.elements.Animal;
+import agh.ics.oop.model.elements.Gen;
+
+import java.util.List;
+
+/**
+ * The state of a single tracked animal at the end of a day.
+ */
+public record AnimalDetails(Animal animal, List<Gen> genome, Gen activeGene, int energy, int eatenPlants,
+                            int children, int descendants, int startDay, int endDay, boolean dead) {
+
+    public static AnimalDetails of(Animal animal) {
+        return new AnimalDetails(
+                animal,
+                List.copyOf(animal.getGenome().getGens()),
+                animal.getActivatedGen(),
+                animal.getEnergy(),
+                animal.getCountOfEatenPlants(),
+                animal.getCountOfChildren(),
+                animal.getCountOfDescendants(),
+                animal.getStartDay(),
+                animal.isDead() ? animal.getEndDay() : 0,
+                animal.isDead());
+    }
+}
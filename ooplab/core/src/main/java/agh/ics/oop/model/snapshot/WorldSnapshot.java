@@ -0,0 +1,282 @@
+package agh.ics.oop.model.snapshot;
+
+import agh.ics.oop.model.Boundary;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.elements.Animal;
+import agh.ics.oop.model.statistics.Statistics;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An immutable picture of the world at the end of a day, for readers on other threads. Animals are stored as
+ * parallel arrays of cells, energies and genotype fingerprints, sorted by cell with a per-cell offset index, so the
+ * animals of a single cell are found in constant time. The {@link Animal} references only identify animals, e.g. for
+ * selection, and their state must not be read from the snapshot's readers.
+ */
+public class WorldSnapshot {
+    @Getter
+    private final int day;
+    @Getter
+    private final Boundary bounds;
+    private final int width;
+    private final Animal[] animals;
+    private final int[] animalCells;
+    private final int[] animalEnergies;
+    private final long[] animalGenotypes;
+    /**
+     * The animals of cell {@code c} take the indices from {@code cellStarts[c]} up to {@code cellStarts[c + 1]}.
+     */
+    private final int[] cellStarts;
+    private final BitSet plants;
+    private final BitSet fires;
+    @Getter
+    private final Statistics statistics;
+    @Getter
+    private final AnimalDetails trackedAnimal;
+    /**
+     * Cells that changed since the snapshot of the previous day.
+     */
+    @Getter
+    private final Set<Vector2d> changedCells;
+
+    private WorldSnapshot(Builder builder, int day, Statistics statistics, AnimalDetails trackedAnimal,
+                          Set<Vector2d> changedCells) {
+        this.day = day;
+        this.bounds = builder.bounds;
+        this.width = builder.width;
+        var animalCount = builder.animalCount;
+        this.animals = new Animal[animalCount];
+        this.animalCells = new int[animalCount];
+        this.animalEnergies = new int[animalCount];
+        this.animalGenotypes = new long[animalCount];
+        this.cellStarts = builder.countAnimalsPerCell();
+        var next = builder.cellCursors(cellStarts);
+        for (int i = 0; i < animalCount; i++) {
+            var cell = builder.animalCells[i];
+            var index = next[cell]++;
+            animals[index] = builder.animals[i];
+            animalCells[index] = cell;
+            animalEnergies[index] = builder.animalEnergies[i];
+            animalGenotypes[index] = builder.animalGenotypes[i];
+        }
+        this.plants = (BitSet) builder.plants.clone();
+        this.fires = (BitSet) builder.fires.clone();
+        this.statistics = statistics;
+        this.trackedAnimal = trackedAnimal;
+        this.changedCells = Set.copyOf(changedCells);
+    }
+
+    public int getAnimalCount() {
+        return animals.length;
+    }
+
+    public Animal getAnimal(int index) {
+        return animals[index];
+    }
+
+    public Vector2d getAnimalPosition(int index) {
+        return cellPosition(animalCells[index]);
+    }
+
+    /**
+     * Column of the animal counted from the left bottom corner, without creating a position.
+     */
+    public int getAnimalColumn(int index) {
+        return animalCells[index] % width;
+    }
+
+    /**
+     * Row of the animal counted from the left bottom corner, without creating a position.
+     */
+    public int getAnimalRow(int index) {
+        return animalCells[index] / width;
+    }
+
+    public int getAnimalEnergy(int index) {
+        return animalEnergies[index];
+    }
+
+    public long getAnimalGenotype(int index) {
+        return animalGenotypes[index];
+    }
+
+    public boolean isPlantAt(Vector2d position) {
+        return contains(position) && plants.get(cellIndex(position));
+    }
+
+    public boolean isFireAt(Vector2d position) {
+        return contains(position) && fires.get(cellIndex(position));
+    }
+
+    public List<Vector2d> getPlantPositions() {
+        return positionsOf(plants);
+    }
+
+    public List<Vector2d> getFirePositions() {
+        return positionsOf(fires);
+    }
+
+    /**
+     * Visits the column and row, counted from the left bottom corner, of every plant without creating positions.
+     */
+    public void forEachPlantCell(CellVisitor visitor) {
+        forEachCell(plants, visitor);
+    }
+
+    public void forEachFireCell(CellVisitor visitor) {
+        forEachCell(fires, visitor);
+    }
+
+    public int animalCountAt(Vector2d position) {
+        if (!contains(position)) {
+            return 0;
+        }
+        var cell = cellIndex(position);
+        return cellStarts[cell + 1] - cellStarts[cell];
+    }
+
+    /**
+     * The first index of the animals standing at the given position. They take the next
+     * {@link #animalCountAt(Vector2d)} indices, usable with the other animal getters.
+     */
+    public int firstAnimalIndexAt(Vector2d position) {
+        return contains(position) ? cellStarts[cellIndex(position)] : 0;
+    }
+
+    /**
+     * Indices of the animals standing at the given position, usable with the other animal getters.
+     */
+    public int[] animalIndicesAt(Vector2d position) {
+        var first = firstAnimalIndexAt(position);
+        var indices = new int[animalCountAt(position)];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = first + i;
+        }
+        return indices;
+    }
+
+    private List<Vector2d> positionsOf(BitSet cells) {
+        var result = new ArrayList<Vector2d>(cells.cardinality());
+        for (int cell = cells.nextSetBit(0); cell >= 0; cell = cells.nextSetBit(cell + 1)) {
+            result.add(cellPosition(cell));
+        }
+        return result;
+    }
+
+    private void forEachCell(BitSet cells, CellVisitor visitor) {
+        for (int cell = cells.nextSetBit(0); cell >= 0; cell = cells.nextSetBit(cell + 1)) {
+            visitor.visit(cell % width, cell / width);
+        }
+    }
+
+    private boolean contains(Vector2d position) {
+        return position.follows(bounds.leftBottomCorner()) && position.precedes(bounds.rightTopCorner());
+    }
+
+    private int cellIndex(Vector2d position) {
+        var leftBottom = bounds.leftBottomCorner();
+        return (position.getY() - leftBottom.getY()) * width + position.getX() - leftBottom.getX();
+    }
+
+    private Vector2d cellPosition(int cell) {
+        var leftBottom = bounds.leftBottomCorner();
+        return new Vector2d(leftBottom.getX() + cell % width, leftBottom.getY() + cell / width);
+    }
+
+    public interface CellVisitor {
+        void visit(int column, int row);
+    }
+
+    /**
+     * Collects the state of a map into reusable buffers, from which every {@link #build} copies an immutable
+     * snapshot.
+     */
+    public static class Builder {
+        private Boundary bounds;
+        private int width;
+        private int height;
+        private int[] cellCursors = new int[0];
+        private Animal[] animals = new Animal[16];
+        private int[] animalCells = new int[16];
+        private int[] animalEnergies = new int[16];
+        private long[] animalGenotypes = new long[16];
+        private int animalCount;
+        private final BitSet plants = new BitSet();
+        private final BitSet fires = new BitSet();
+
+        public Builder reset(Boundary bounds) {
+            this.bounds = bounds;
+            this.width = bounds.rightTopCorner().getX() - bounds.leftBottomCorner().getX() + 1;
+            this.height = bounds.rightTopCorner().getY() - bounds.leftBottomCorner().getY() + 1;
+            Arrays.fill(animals, 0, animalCount, null);
+            animalCount = 0;
+            plants.clear();
+            fires.clear();
+            return this;
+        }
+
+        public void addAnimal(Animal animal) {
+            if (animalCount == animals.length) {
+                var capacity = animals.length * 2;
+                animals = Arrays.copyOf(animals, capacity);
+                animalCells = Arrays.copyOf(animalCells, capacity);
+                animalEnergies = Arrays.copyOf(animalEnergies, capacity);
+                animalGenotypes = Arrays.copyOf(animalGenotypes, capacity);
+            }
+            animals[animalCount] = animal;
+            animalCells[animalCount] = cellIndex(animal.getPosition());
+            animalEnergies[animalCount] = animal.getEnergy();
+            animalGenotypes[animalCount] = animal.getGenome() != null ? animal.getGenome().getFingerprint() : 0;
+            animalCount++;
+        }
+
+        public void addPlant(Vector2d position) {
+            plants.set(cellIndex(position));
+        }
+
+        public void addFire(Vector2d position) {
+            fires.set(cellIndex(position));
+        }
+
+        public WorldSnapshot build(int day, Statistics statistics, AnimalDetails trackedAnimal, Set<Vector2d> changedCells) {
+            return new WorldSnapshot(this, day, statistics, trackedAnimal, changedCells);
+        }
+
+        private int cellIndex(Vector2d position) {
+            var leftBottom = bounds.leftBottomCorner();
+            return (position.getY() - leftBottom.getY()) * width + position.getX() - leftBottom.getX();
+        }
+
+        /**
+         * The first pass of a counting sort by cell: where the animals of every cell start in the sorted arrays.
+         */
+        private int[] countAnimalsPerCell() {
+            var cellCount = width * height;
+            var starts = new int[cellCount + 1];
+            for (int i = 0; i < animalCount; i++) {
+                starts[animalCells[i] + 1]++;
+            }
+            for (int cell = 0; cell < cellCount; cell++) {
+                starts[cell + 1] += starts[cell];
+            }
+            return starts;
+        }
+
+        /**
+         * The next free index of every cell, starting at the given offsets, in a buffer reused between builds.
+         */
+        private int[] cellCursors(int[] starts) {
+            var cellCount = starts.length - 1;
+            if (cellCursors.length < cellCount) {
+                cellCursors = new int[cellCount];
+            }
+            System.arraycopy(starts, 0, cellCursors, 0, cellCount);
+            return cellCursors;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package agh.ics.oop.model.statistics;
+
+import agh.ics.oop.model.elements.Animal;
+
+/**
+ * Compact summary of a dead animal, which is all the statistics need once the animal itself can be forgotten.
+ */
+public record DeathRecord(int animalId, int startDay, int endDay, int countOfChildren, int countOfEatenPlants,
+                          long genomeFingerprint) {
+
+    public static DeathRecord of(Animal animal) {
+        var genome = animal.getGenome();
+        return new DeathRecord(animal.getLineageId(), animal.getStartDay(), animal.getEndDay(),
+                animal.getCountOfChildren(), animal.getCountOfEatenPlants(), genome != null ? genome.getFingerprint() : 0);
+    }
+
+    public int lifespan() {
+        return endDay - startDay + 1;
+    }
+}
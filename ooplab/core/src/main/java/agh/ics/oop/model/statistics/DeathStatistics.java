@@ -0,0 +1,27 @@
+package agh.ics.oop.model.statistics;
+
+import lombok.Getter;
+
+import java.util.OptionalDouble;
+
+/**
+ * Running aggregates over dead animals, updated in constant time per death.
+ */
+public class DeathStatistics {
+    @Getter
+    private int deadAnimalCount;
+    private long lifespanSum;
+    @Getter
+    private int longestLifespan;
+
+    public void add(DeathRecord record) {
+        var lifespan = record.lifespan();
+        deadAnimalCount++;
+        lifespanSum += lifespan;
+        longestLifespan = Math.max(longestLifespan, lifespan);
+    }
+
+    public OptionalDouble getAverageLifespan() {
+        return deadAnimalCount == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) lifespanSum / deadAnimalCount);
+    }
+}
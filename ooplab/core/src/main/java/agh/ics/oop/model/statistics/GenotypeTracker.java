@@ -0,0 +1,101 @@
+package agh.ics.oop.model.statistics;
+
+import agh.ics.oop.model.elements.Genome;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Frequency table of living genotypes keyed by {@link Genome#getFingerprint()}. Genotypes with the same count are
+ * linked into one bucket, and counts only ever change by one, so the most popular genotype is always the head of
+ * the highest non-empty bucket.
+ */
+public class GenotypeTracker {
+    private final Map<Long, GenotypeEntry> entries = new HashMap<>();
+    private final List<GenotypeEntry> buckets = new ArrayList<>();
+    private int maxCount;
+
+    public void add(Genome genome) {
+        var entry = entries.computeIfAbsent(genome.getFingerprint(), fingerprint -> new GenotypeEntry(genome));
+        if (entry.count > 0) {
+            unlink(entry);
+        }
+        entry.count++;
+        link(entry);
+        maxCount = Math.max(maxCount, entry.count);
+    }
+
+    public void remove(Genome genome) {
+        var entry = entries.get(genome.getFingerprint());
+        if (entry == null) {
+            return;
+        }
+
+        unlink(entry);
+        entry.count--;
+        if (entry.count == 0) {
+            entries.remove(genome.getFingerprint());
+        } else {
+            link(entry);
+        }
+        if (maxCount > 0 && bucketHead(maxCount) == null) {
+            maxCount--;
+        }
+    }
+
+    public Optional<Genome> getMostPopularGenome() {
+        return maxCount == 0 ? Optional.empty() : Optional.of(bucketHead(maxCount).genome);
+    }
+
+    public int getMostPopularCount() {
+        return maxCount;
+    }
+
+    public int getGenotypeCount() {
+        return entries.size();
+    }
+
+    private GenotypeEntry bucketHead(int count) {
+        return count < buckets.size() ? buckets.get(count) : null;
+    }
+
+    private void link(GenotypeEntry entry) {
+        while (buckets.size() <= entry.count) {
+            buckets.add(null);
+        }
+        var head = buckets.get(entry.count);
+        entry.previous = null;
+        entry.next = head;
+        if (head != null) {
+            head.previous = entry;
+        }
+        buckets.set(entry.count, entry);
+    }
+
+    private void unlink(GenotypeEntry entry) {
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            buckets.set(entry.count, entry.next);
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+    }
+
+    private static class GenotypeEntry {
+        private final Genome genome;
+        private int count;
+        private GenotypeEntry previous;
+        private GenotypeEntry next;
+
+        private GenotypeEntry(Genome genome) {
+            this.genome = genome;
+        }
+    }
+}
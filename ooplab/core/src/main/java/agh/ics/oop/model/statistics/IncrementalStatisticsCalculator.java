@@ -0,0 +1,127 @@
+package agh.ics.oop.model.statistics;
+
+import agh.ics.oop.listener.StatisticsChangeListener;
+import agh.ics.oop.model.elements.Animal;
+import agh.ics.oop.model.elements.Gen;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+/**
+ * Keeps running counters updated by world mutations, so reading statistics costs O(1) instead of a full scan. Dead
+ * animals are not counted here, the lifespan comes from the {@link DeathStatistics} of the data provider.
+ */
+public class IncrementalStatisticsCalculator implements StatisticsCalculator, StatisticsChangeListener {
+    private final int fieldsCount;
+    private final StatisticsDataProvider statisticsDataProvider;
+    private final GenotypeTracker genotypeTracker = new GenotypeTracker();
+    private int animalCount;
+    private int plantCount;
+    private int occupiedFieldsCount;
+    private long energySum;
+    private long childrenSum;
+
+    public IncrementalStatisticsCalculator(int fieldsCount, StatisticsDataProvider statisticsDataProvider) {
+        this.fieldsCount = fieldsCount;
+        this.statisticsDataProvider = statisticsDataProvider;
+    }
+
+    @Override
+    public void animalPlaced(Animal animal) {
+        animalCount++;
+        energySum += animal.getEnergy();
+        childrenSum += animal.getCountOfChildren();
+        if (animal.getGenome() != null) {
+            genotypeTracker.add(animal.getGenome());
+        }
+    }
+
+    @Override
+    public void animalRemoved(Animal animal) {
+        animalCount--;
+        energySum -= animal.getEnergy();
+        childrenSum -= animal.getCountOfChildren();
+        if (animal.getGenome() != null) {
+            genotypeTracker.remove(animal.getGenome());
+        }
+    }
+
+    @Override
+    public void energyChanged(int delta) {
+        energySum += delta;
+    }
+
+    @Override
+    public void childrenChanged(int delta) {
+        childrenSum += delta;
+    }
+
+    @Override
+    public void plantPlaced() {
+        plantCount++;
+    }
+
+    @Override
+    public void plantRemoved() {
+        plantCount--;
+    }
+
+    @Override
+    public void fieldOccupied() {
+        occupiedFieldsCount++;
+    }
+
+    @Override
+    public void fieldReleased() {
+        occupiedFieldsCount--;
+    }
+
+    @Override
+    public int getAnimalCount() {
+        return animalCount;
+    }
+
+    @Override
+    public OptionalDouble getAverageAnimalEnergy() {
+        return average(energySum, animalCount);
+    }
+
+    @Override
+    public OptionalDouble getAverageDeadAnimalTimeLife() {
+        return statisticsDataProvider.getDeathStatistics().getAverageLifespan();
+    }
+
+    @Override
+    public OptionalDouble getAverageAnimalCountOfChildren() {
+        return average(childrenSum, animalCount);
+    }
+
+    @Override
+    public Optional<List<Gen>> getMostPopularGenotype() {
+        return genotypeTracker.getMostPopularGenome()
+                .map(genome -> List.copyOf(genome.getGens()));
+    }
+
+    @Override
+    public OptionalLong getMostPopularGenotypeFingerprint() {
+        return genotypeTracker.getMostPopularGenome()
+                .map(genome -> OptionalLong.of(genome.getFingerprint()))
+                .orElse(OptionalLong.empty());
+    }
+
+    @Override
+    public int getPlantCount() {
+        return plantCount;
+    }
+
+    @Override
+    public int getEmptyFieldsCount() {
+        return fieldsCount - occupiedFieldsCount;
+    }
+
+    private static OptionalDouble average(long sum, int count) {
+        return count == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) sum / count);
+    }
+}
@@ -2,51 +2,58 @@ package agh.ics.oop.model.statistics;
 
 import agh.ics.oop.model.elements.*;
 
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalDouble;
+import java.util.OptionalLong;
 import java.util.stream.Collectors;
 
-public class SimulationStatisticsCalculator {
+public class SimulationStatisticsCalculator implements StatisticsCalculator {
     private final StatisticsDataProvider statisticsDataProvider;
 
     public SimulationStatisticsCalculator(StatisticsDataProvider animalDataProvider) {
         this.statisticsDataProvider = animalDataProvider;
     }
 
+    @Override
     public int getAnimalCount() {
         return statisticsDataProvider.getAliveAnimals().size();
     }
 
+    @Override
     public OptionalDouble getAverageAnimalEnergy() {
         return statisticsDataProvider.getAliveAnimals().stream()
                 .mapToDouble(Animal::getEnergy)
                 .average();
     }
 
+    @Override
     public OptionalDouble getAverageDeadAnimalTimeLife() {
-        return statisticsDataProvider.getDeadAnimals().stream()
-                .mapToDouble(animal -> animal.getEndDay() - animal.getStartDay() + 1)
-                .average();
+        return statisticsDataProvider.getDeathStatistics().getAverageLifespan();
     }
 
+    @Override
     public OptionalDouble getAverageAnimalCountOfChildren() {
         return statisticsDataProvider.getAliveAnimals().stream()
                 .mapToInt(Animal::getCountOfChildren)
                 .average();
     }
 
+    @Override
     public Optional<List<Gen>> getMostPopularGenotype() {
-        return statisticsDataProvider.getAliveAnimals().stream()
-                .map(Animal::getGenome)
-                .map(Genome::getGens)
-                .collect(Collectors.groupingBy(genome -> genome, Collectors.counting()))
-                .entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey);
+        return getMostPopularGenome()
+                .map(genome -> List.copyOf(genome.getGens()));
+    }
+
+    @Override
+    public OptionalLong getMostPopularGenotypeFingerprint() {
+        return getMostPopularGenome()
+                .map(genome -> OptionalLong.of(genome.getFingerprint()))
+                .orElse(OptionalLong.empty());
     }
 
+    @Override
     public int getPlantCount() {
         return (int) statisticsDataProvider.getMapElements().stream()
                 .filter(Plant.class::isInstance)
@@ -54,6 +61,7 @@ public class SimulationStatisticsCalculator {
     }
 
 
+    @Override
     public int getEmptyFieldsCount() {
         var boundary = statisticsDataProvider.getCurrentBoundary();
         int countOfOccupiedFields = (int) statisticsDataProvider.getMapElements().stream()
@@ -64,5 +72,14 @@ public class SimulationStatisticsCalculator {
         return (boundary.rightTopCorner().getX() + 1) * (boundary.rightTopCorner().getY() + 1) - countOfOccupiedFields;
     }
 
+    private Optional<Genome> getMostPopularGenome() {
+        return statisticsDataProvider.getAliveAnimals().stream()
+                .map(Animal::getGenome)
+                .collect(Collectors.groupingBy(Genome::getFingerprint))
+                .values().stream()
+                .max(Comparator.comparingInt(List::size))
+                .map(List::getFirst);
+    }
+
 }
 
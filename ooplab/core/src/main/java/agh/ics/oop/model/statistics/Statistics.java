@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalLong;
 
 @Getter
 @Builder
@@ -21,21 +22,41 @@ public class Statistics {
     private double averageEnergy;
     @Builder.Default
     private List<Gen> mostPopularGenotype = new ArrayList<>();
+    @Builder.Default
+    private OptionalLong mostPopularGenotypeFingerprint = OptionalLong.empty();
     private double averageLifespan;
     private double averageChildren;
 
     private final List<GraphData> history = new ArrayList<>();
 
-    public void updateStatistics(int currentDay, SimulationStatisticsCalculator calculator) {
+    public void updateStatistics(int currentDay, StatisticsCalculator calculator) {
         this.currentDay = currentDay;
         this.animalCount = calculator.getAnimalCount();
         this.plantCount = calculator.getPlantCount();
         this.freeFieldsCount = calculator.getEmptyFieldsCount();
         this.averageEnergy = calculator.getAverageAnimalEnergy().orElse(0.0);
         this.mostPopularGenotype = calculator.getMostPopularGenotype().orElse(new ArrayList<>());
+        this.mostPopularGenotypeFingerprint = calculator.getMostPopularGenotypeFingerprint();
         this.averageLifespan = calculator.getAverageDeadAnimalTimeLife().orElse(0.0);
         this.averageChildren = calculator.getAverageAnimalCountOfChildren().orElse(0.0);
         history.add(new GraphData(currentDay, animalCount, plantCount));
     }
 
+    /**
+     * Copies the current values, without the history, into an instance nobody updates anymore.
+     */
+    public Statistics copy() {
+        return Statistics.builder()
+                .currentDay(currentDay)
+                .animalCount(animalCount)
+                .plantCount(plantCount)
+                .freeFieldsCount(freeFieldsCount)
+                .averageEnergy(averageEnergy)
+                .mostPopularGenotype(List.copyOf(mostPopularGenotype))
+                .mostPopularGenotypeFingerprint(mostPopularGenotypeFingerprint)
+                .averageLifespan(averageLifespan)
+                .averageChildren(averageChildren)
+                .build();
+    }
+
 }
@@ -0,0 +1,26 @@
+package agh.ics.oop.model.statistics;
+
+import agh.ics.oop.model.elements.Gen;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+public interface StatisticsCalculator {
+    int getAnimalCount();
+
+    OptionalDouble getAverageAnimalEnergy();
+
+    OptionalDouble getAverageDeadAnimalTimeLife();
+
+    OptionalDouble getAverageAnimalCountOfChildren();
+
+    Optional<List<Gen>> getMostPopularGenotype();
+
+    OptionalLong getMostPopularGenotypeFingerprint();
+
+    int getPlantCount();
+
+    int getEmptyFieldsCount();
+}
@@ -8,7 +8,7 @@ import java.util.Set;
 
 public interface StatisticsDataProvider {
 
-    Set<Animal> getDeadAnimals();
+    DeathStatistics getDeathStatistics();
 
     Set<Animal> getAliveAnimals();
 
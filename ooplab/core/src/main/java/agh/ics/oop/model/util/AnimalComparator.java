@@ -18,6 +18,6 @@ public class AnimalComparator implements Comparator<Animal> {
             return -ageComparison;
         }
 
-        return Integer.compare(a1.getChildren().size(), a2.getChildren().size());
+        return Integer.compare(a1.getCountOfChildren(), a2.getCountOfChildren());
     }
 }
@@ -0,0 +1,131 @@
+package agh.ics.oop.model.util;
+
+import agh.ics.oop.model.Boundary;
+import agh.ics.oop.model.Vector2d;
+
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+/**
+ * Keeps the free cells of a map split into a preferred and an other pool. Each pool is a dense array with
+ * swap-remove, and every cell remembers its slot, so marking cells and drawing a random one cost O(1).
+ */
+public class FreeCellIndex {
+    private static final double PREFERRED_CHANCE = 0.8;
+    private static final int TAKEN = -1;
+
+    private final int width;
+    private final int height;
+    private final boolean[] preferred;
+    private final int[] slots;
+    private final CellPool preferredCells;
+    private final CellPool otherCells;
+
+    public FreeCellIndex(int width, int height, Boundary preferredArea) {
+        this.width = width;
+        this.height = height;
+        this.preferred = new boolean[width * height];
+        this.slots = new int[width * height];
+
+        var preferredCount = 0;
+        for (int cell = 0; cell < preferred.length; cell++) {
+            var position = cellPosition(cell);
+            preferred[cell] = position.follows(preferredArea.leftBottomCorner()) && position.precedes(preferredArea.rightTopCorner());
+            if (preferred[cell]) {
+                preferredCount++;
+            }
+        }
+
+        preferredCells = new CellPool(preferredCount);
+        otherCells = new CellPool(preferred.length - preferredCount);
+        for (int cell = 0; cell < preferred.length; cell++) {
+            poolOf(cell).add(cell);
+        }
+    }
+
+    public void markTaken(Vector2d position) {
+        if (contains(position)) {
+            var cell = cellIndex(position);
+            if (slots[cell] != TAKEN) {
+                poolOf(cell).remove(cell);
+            }
+        }
+    }
+
+    public void markFree(Vector2d position) {
+        if (contains(position)) {
+            var cell = cellIndex(position);
+            if (slots[cell] == TAKEN) {
+                poolOf(cell).add(cell);
+            }
+        }
+    }
+
+    public boolean isFree(Vector2d position) {
+        return contains(position) && slots[cellIndex(position)] != TAKEN;
+    }
+
+    public int getFreeCount() {
+        return preferredCells.size + otherCells.size;
+    }
+
+    /**
+     * Draws a free cell, from the preferred pool with 80% chance when both pools have cells, and marks it taken.
+     */
+    public Optional<Vector2d> takeRandom(RandomGenerator random) {
+        CellPool pool;
+        if (otherCells.size == 0) {
+            pool = preferredCells;
+        } else if (preferredCells.size == 0) {
+            pool = otherCells;
+        } else {
+            pool = random.nextDouble() < PREFERRED_CHANCE ? preferredCells : otherCells;
+        }
+
+        if (pool.size == 0) {
+            return Optional.empty();
+        }
+        var cell = pool.cells[random.nextInt(pool.size)];
+        pool.remove(cell);
+        return Optional.of(cellPosition(cell));
+    }
+
+    private boolean contains(Vector2d position) {
+        return position.getX() >= 0 && position.getX() < width && position.getY() >= 0 && position.getY() < height;
+    }
+
+    private int cellIndex(Vector2d position) {
+        return position.getY() * width + position.getX();
+    }
+
+    private Vector2d cellPosition(int cell) {
+        return new Vector2d(cell % width, cell / width);
+    }
+
+    private CellPool poolOf(int cell) {
+        return preferred[cell] ? preferredCells : otherCells;
+    }
+
+    private class CellPool {
+        private final int[] cells;
+        private int size;
+
+        CellPool(int capacity) {
+            this.cells = new int[capacity];
+        }
+
+        void add(int cell) {
+            cells[size] = cell;
+            slots[cell] = size;
+            size++;
+        }
+
+        void remove(int cell) {
+            var slot = slots[cell];
+            var last = cells[--size];
+            cells[slot] = last;
+            slots[last] = slot;
+            slots[cell] = TAKEN;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package agh.ics.oop.model.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs an action for every index of {@code [0, count)} on a {@link ForkJoinPool}, splitting the range in halves
+ * until chunks are no longer than the given size.
+ */
+public final class ParallelRange {
+
+    private ParallelRange() {
+    }
+
+    public static void forEach(ForkJoinPool pool, int count, int chunkSize, IntConsumer action) {
+        if (count <= chunkSize) {
+            for (int i = 0; i < count; i++) {
+                action.accept(i);
+            }
+            return;
+        }
+        pool.invoke(new RangeAction(0, count, Math.max(1, chunkSize), action));
+    }
+
+    private static class RangeAction extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final IntConsumer action;
+
+        RangeAction(int from, int to, int chunkSize, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+                return;
+            }
+            var middle = (from + to) >>> 1;
+            invokeAll(new RangeAction(from, middle, chunkSize, action), new RangeAction(middle, to, chunkSize, action));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package agh.ics.oop;
+
+import agh.ics.oop.model.repository.BinaryDeathRecordRepositoryAdapter;
+import agh.ics.oop.model.repository.CsvStatisticsRepositoryAdapter;
+import agh.ics.oop.model.statistics.DeathRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessSimulationRunnerTest {
+    private static final String TEST_PATH = "src/test/resources/headless";
+
+    @AfterEach
+    void tearDown() {
+        var directory = new File(TEST_PATH);
+        var files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                assertTrue(file.delete());
+            }
+        }
+        assertTrue(directory.delete());
+    }
+
+    @Test
+    void runShouldHandleAllDaysAndSaveStatisticsHistory() throws IOException {
+        // given
+        var configuration = TestConfigurationHelper.createFireConfiguration();
+        var daysCount = configuration.getSimulationConfiguration().getDaysCount();
+        var runner = new HeadlessSimulationRunner(configuration, new CsvStatisticsRepositoryAdapter(TEST_PATH));
+
+        // when
+        var simulationContext = runner.run();
+
+        // then
+        assertEquals(daysCount, simulationContext.getStatistics().getCurrentDay());
+        assertEquals(daysCount, simulationContext.getGraphData().size());
+
+        var file = new File(TEST_PATH, simulationContext.getWorldMap().getId() + ".csv");
+        assertTrue(file.exists());
+        var lines = Files.readAllLines(file.toPath());
+        assertEquals(daysCount + 1, lines.size());
+        assertTrue(lines.getFirst().startsWith("CURRENT_DAY"));
+    }
+
+    @Test
+    void runShouldStreamEveryDeathToDeathRecordRepository() throws IOException {
+        // given
+        var configuration = TestConfigurationHelper.createFireConfiguration();
+        var deathRecordRepository = new BinaryDeathRecordRepositoryAdapter(TEST_PATH);
+        var runner = new HeadlessSimulationRunner(configuration, new CsvStatisticsRepositoryAdapter(TEST_PATH),
+                deathRecordRepository);
+
+        // when
+        var simulationContext = runner.run();
+
+        // then
+        var deathStatistics = simulationContext.getDeathStatistics();
+        var records = deathRecordRepository.load(simulationContext.getWorldMap().getId().toString());
+        assertEquals(deathStatistics.getDeadAnimalCount(), records.size());
+        assertTrue(records.stream().allMatch(deathRecord -> deathRecord.endDay() >= deathRecord.startDay()));
+        assertEquals(deathStatistics.getAverageLifespan().orElse(0.0),
+                records.stream().mapToInt(DeathRecord::lifespan).average().orElse(0.0), 0.0001);
+    }
+}
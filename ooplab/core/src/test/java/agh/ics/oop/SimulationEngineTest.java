@@ -0,0 +1,171 @@
+package agh.ics.oop;
+
+import agh.ics.oop.model.configuration.SimulationEngineVariant;
+import agh.ics.oop.model.configuration.TickPolicy;
+import agh.ics.oop.model.configuration.TickPolicyVariant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationEngineTest {
+    private static final int DAYS_COUNT = 50;
+
+    private SimulationEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        engine.closeThreadPool();
+    }
+
+    @ParameterizedTest
+    @EnumSource(SimulationEngineVariant.class)
+    void moreSimulationsThanThreadsShouldAllFinish(SimulationEngineVariant variant) throws InterruptedException {
+        //given
+        engine = new SimulationEngine(variant, 2);
+        var finished = new CountDownLatch(12);
+        var simulations = new ArrayList<Simulation>();
+        for (int i = 0; i < 12; i++) {
+            var simulation = createSimulation(0);
+            simulation.getSimulationContext().addSimulationFinishedListener(finished::countDown);
+            simulations.add(simulation);
+            engine.runAsyncInThreadPool(engine.addSimulation(simulation));
+        }
+
+        //when
+        simulations.forEach(Simulation::resume);
+
+        //then
+        assertTrue(finished.await(30, TimeUnit.SECONDS));
+        simulations.forEach(simulation -> assertEquals(DAYS_COUNT, simulation.getSimulatedDays()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SimulationEngineVariant.class)
+    void pausedSimulationShouldNotBlockOthers(SimulationEngineVariant variant) throws InterruptedException {
+        //given
+        engine = new SimulationEngine(variant, 2);
+        var finished = new CountDownLatch(2);
+        var paused = createSimulation(0);
+        var running = List.of(createSimulation(0), createSimulation(0));
+        running.forEach(simulation -> simulation.getSimulationContext().addSimulationFinishedListener(finished::countDown));
+        engine.runAsyncInThreadPool(engine.addSimulation(paused));
+        running.forEach(simulation -> engine.runAsyncInThreadPool(engine.addSimulation(simulation)));
+
+        //when
+        running.forEach(Simulation::resume);
+
+        //then
+        assertTrue(finished.await(30, TimeUnit.SECONDS));
+        assertEquals(0, paused.getSimulatedDays());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SimulationEngineVariant.class)
+    void resumedSimulationShouldContinueAfterPause(SimulationEngineVariant variant) throws InterruptedException {
+        //given
+        engine = new SimulationEngine(variant, 2);
+        var finished = new CountDownLatch(1);
+        var paused = new CountDownLatch(1);
+        var publishedDays = Collections.synchronizedList(new ArrayList<Integer>());
+        var simulation = createSimulation(0);
+        simulation.getSimulationContext().addSnapshotPublishedListener(snapshot -> {
+            publishedDays.add(snapshot.getDay());
+            if (snapshot.getDay() == 10 && paused.getCount() > 0) {
+                simulation.pause();
+                paused.countDown();
+            }
+        });
+        simulation.getSimulationContext().addSimulationFinishedListener(finished::countDown);
+        engine.runAsyncInThreadPool(engine.addSimulation(simulation));
+        simulation.resume();
+        assertTrue(paused.await(30, TimeUnit.SECONDS));
+        var daysWhenPaused = List.copyOf(publishedDays);
+
+        //when
+        simulation.resume();
+
+        //then
+        assertEquals(IntStream.rangeClosed(1, 10).boxed().toList(), daysWhenPaused);
+        assertTrue(finished.await(30, TimeUnit.SECONDS));
+        assertEquals(DAYS_COUNT, simulation.getSimulatedDays());
+        assertEquals(IntStream.rangeClosed(1, DAYS_COUNT).boxed().toList(), publishedDays);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SimulationEngineVariant.class)
+    void endedSimulationShouldStopWithoutFinishing(SimulationEngineVariant variant) throws InterruptedException {
+        //given
+        engine = new SimulationEngine(variant, 2);
+        var ended = new CountDownLatch(1);
+        var finished = new AtomicBoolean();
+        var publishedDays = Collections.synchronizedList(new ArrayList<Integer>());
+        var simulation = createSimulation(0);
+        simulation.getSimulationContext().addSnapshotPublishedListener(snapshot -> {
+            publishedDays.add(snapshot.getDay());
+            if (snapshot.getDay() == 10) {
+                simulation.end();
+                ended.countDown();
+            }
+        });
+        simulation.getSimulationContext().addSimulationFinishedListener(() -> finished.set(true));
+        engine.runAsyncInThreadPool(engine.addSimulation(simulation));
+
+        //when
+        simulation.resume();
+
+        //then
+        assertTrue(ended.await(30, TimeUnit.SECONDS));
+        assertTrue(simulation.isFinished());
+        assertFalse(simulation.step());
+        assertEquals(IntStream.rangeClosed(1, 10).boxed().toList(), publishedDays);
+        assertFalse(finished.get());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SimulationEngineVariant.class)
+    void fastForwardShouldReturnToFixedRateAfterGivenDays(SimulationEngineVariant variant) throws InterruptedException {
+        //given
+        engine = new SimulationEngine(variant, 2);
+        var reachedFixedRate = new CountDownLatch(1);
+        var dayPeriods = Collections.synchronizedList(new ArrayList<Long>());
+        var simulation = createSimulation(1);
+        simulation.getSimulationContext().addSnapshotPublishedListener(snapshot -> {
+            // published before the day is counted, so this is the period that followed the previous day
+            dayPeriods.add(simulation.getDayPeriodNanos());
+            if (snapshot.getDay() == 31) {
+                simulation.end();
+                reachedFixedRate.countDown();
+            }
+        });
+        engine.runAsyncInThreadPool(engine.addSimulation(simulation));
+
+        //when
+        simulation.setTickPolicy(TickPolicy.fastForward(30, 1));
+        simulation.resume();
+
+        //then
+        assertTrue(reachedFixedRate.await(30, TimeUnit.SECONDS));
+        assertEquals(TickPolicyVariant.FAST_FORWARD, simulation.getTickPolicy().variant());
+        assertEquals(31, dayPeriods.size());
+        assertTrue(dayPeriods.subList(0, 30).stream().allMatch(period -> period == 0));
+        assertEquals(TimeUnit.SECONDS.toNanos(1), (long) dayPeriods.get(30));
+        assertEquals(TimeUnit.SECONDS.toNanos(1), simulation.getDayPeriodNanos());
+    }
+
+    private static Simulation createSimulation(double daysPerSecond) {
+        var context = new SimulationContext(TestConfigurationHelper.createFireConfiguration());
+        var simulation = new Simulation(context, DAYS_COUNT);
+        simulation.setDaysPerSecond(daysPerSecond);
+        return simulation;
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -149,6 +150,109 @@ class SimulationIntegrationTest {
         assertFalse(fireMap.isFireAtPosition(fireOptional.get().getPosition()));
     }
 
+    @ParameterizedTest
+    @EnumSource(DayStepVariant.class)
+    void simulationsWithSameSeedShouldBeIdentical(DayStepVariant dayStep) {
+        // given
+        var configuration = TestConfigurationHelper.createFireConfiguration(AnimalStorageVariant.OBJECTS, dayStep, 42L);
+        var first = new SimulationContext(configuration);
+        var second = new SimulationContext(configuration);
+
+        // when
+        for (int day = 0; day < 100; day++) {
+            first.handleDayEnds();
+            second.handleDayEnds();
+        }
+
+        // then
+        assertEquals(42L, first.getSeed());
+        for (int day = 0; day < 100; day++) {
+            var firstData = first.getGraphData().get(day);
+            var secondData = second.getGraphData().get(day);
+            assertEquals(firstData.getAnimalCount(), secondData.getAnimalCount(), "animals, day " + day);
+            assertEquals(firstData.getPlantCount(), secondData.getPlantCount(), "plants, day " + day);
+        }
+        assertEquals(first.getStatistics().getAverageEnergy(), second.getStatistics().getAverageEnergy());
+        assertEquals(first.getStatistics().getMostPopularGenotype(), second.getStatistics().getMostPopularGenotype());
+    }
+
+    @Test
+    void parallelDayStepShouldNotDependOnParallelism() {
+        // given
+        var configuration = TestConfigurationHelper.createFireConfiguration(AnimalStorageVariant.OBJECTS, DayStepVariant.PARALLEL, 42L);
+        var singleThreadPool = new ForkJoinPool(1);
+        var multiThreadPool = new ForkJoinPool(4);
+        var first = new SimulationContext(configuration);
+        var second = new SimulationContext(configuration);
+        first.setDayStepPool(singleThreadPool);
+        second.setDayStepPool(multiThreadPool);
+
+        // when
+        try {
+            for (int day = 0; day < 100; day++) {
+                first.handleDayEnds();
+                second.handleDayEnds();
+            }
+        } finally {
+            singleThreadPool.shutdown();
+            multiThreadPool.shutdown();
+        }
+
+        // then
+        for (int day = 0; day < 100; day++) {
+            var firstData = first.getGraphData().get(day);
+            var secondData = second.getGraphData().get(day);
+            assertEquals(firstData.getAnimalCount(), secondData.getAnimalCount(), "animals, day " + day);
+            assertEquals(firstData.getPlantCount(), secondData.getPlantCount(), "plants, day " + day);
+        }
+        var firstSnapshot = first.getSnapshot();
+        var secondSnapshot = second.getSnapshot();
+        assertEquals(firstSnapshot.getAnimalCount(), secondSnapshot.getAnimalCount());
+        for (int i = 0; i < firstSnapshot.getAnimalCount(); i++) {
+            assertEquals(firstSnapshot.getAnimalPosition(i), secondSnapshot.getAnimalPosition(i), "position of animal " + i);
+            assertEquals(firstSnapshot.getAnimalEnergy(i), secondSnapshot.getAnimalEnergy(i), "energy of animal " + i);
+        }
+        assertEquals(firstSnapshot.getPlantPositions(), secondSnapshot.getPlantPositions());
+        assertEquals(first.getStatistics().getMostPopularGenotype(), second.getStatistics().getMostPopularGenotype());
+    }
+
+    @ParameterizedTest
+    @EnumSource(AnimalStorageVariant.class)
+    void parallelDayStepShouldMatchSequentialDayStep(AnimalStorageVariant animalStorage) {
+        // given
+        var pool = new ForkJoinPool(4);
+        var sequential = new SimulationContext(TestConfigurationHelper.createCrowdedEarthConfiguration(animalStorage, DayStepVariant.SEQUENTIAL, 42L));
+        var parallel = new SimulationContext(TestConfigurationHelper.createCrowdedEarthConfiguration(animalStorage, DayStepVariant.PARALLEL, 42L));
+        parallel.setDayStepPool(pool);
+
+        // when
+        try {
+            for (int day = 0; day < 100; day++) {
+                sequential.handleDayEnds();
+                parallel.handleDayEnds();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        // then
+        assertTrue(sequential.getStatistics().getAverageChildren() > 0);
+        for (int day = 0; day < 100; day++) {
+            var sequentialData = sequential.getGraphData().get(day);
+            var parallelData = parallel.getGraphData().get(day);
+            assertEquals(sequentialData.getAnimalCount(), parallelData.getAnimalCount(), "animals, day " + day);
+            assertEquals(sequentialData.getPlantCount(), parallelData.getPlantCount(), "plants, day " + day);
+        }
+        var sequentialSnapshot = sequential.getSnapshot();
+        var parallelSnapshot = parallel.getSnapshot();
+        assertEquals(sequentialSnapshot.getAnimalCount(), parallelSnapshot.getAnimalCount());
+        for (int i = 0; i < sequentialSnapshot.getAnimalCount(); i++) {
+            assertEquals(sequentialSnapshot.getAnimalPosition(i), parallelSnapshot.getAnimalPosition(i), "position of animal " + i);
+            assertEquals(sequentialSnapshot.getAnimalEnergy(i), parallelSnapshot.getAnimalEnergy(i), "energy of animal " + i);
+        }
+        assertEquals(sequentialSnapshot.getPlantPositions(), parallelSnapshot.getPlantPositions());
+        assertEquals(sequential.getStatistics().getAverageChildren(), parallel.getStatistics().getAverageChildren());
+    }
 
     private <T extends WorldElement> int countElements(Collection<WorldElement> elements, Class<T> clazz) {
         return (int) elements.stream()
@@ -156,4 +260,4 @@ class SimulationIntegrationTest {
                 .count();
     }
 
-}
\ No newline at end of file
+}
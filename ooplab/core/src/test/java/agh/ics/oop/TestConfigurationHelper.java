@@ -58,6 +58,62 @@ public class TestConfigurationHelper {
                 .build();
     }
 
+    public static Configuration createFireConfiguration(AnimalStorageVariant animalStorage) {
+        return createFireConfiguration(animalStorage, DayStepVariant.SEQUENTIAL);
+    }
+
+    public static Configuration createFireConfiguration(AnimalStorageVariant animalStorage, DayStepVariant dayStep) {
+        return createFireConfiguration(animalStorage, dayStep, null);
+    }
+
+    public static Configuration createFireConfiguration(AnimalStorageVariant animalStorage, DayStepVariant dayStep, Long seed) {
+        return Configuration.builder()
+                .animalConfiguration(defaultAnimalConfiguration())
+                .worldMapConfiguration(defaultWorldMapConfiguration(
+                        WorldMapVariant.FIRE, 45, 7, 10, 3))
+                .simulationConfiguration(SimulationConfiguration.builder()
+                        .daysCount(2000)
+                        .startAnimalCount(25)
+                        .animalStorage(animalStorage)
+                        .dayStep(dayStep)
+                        .seed(seed)
+                        .build())
+                .build();
+    }
+
+
+    /**
+     * A small, crowded earth where animals start below the well fed energy, so they only breed after eating.
+     */
+    public static Configuration createCrowdedEarthConfiguration(AnimalStorageVariant animalStorage, DayStepVariant dayStep, Long seed) {
+        return Configuration.builder()
+                .animalConfiguration(AnimalConfiguration.builder()
+                        .startEnergy(10)
+                        .minimumMutationCount(0)
+                        .maximumMutationCount(2)
+                        .wellFedEnergy(12)
+                        .lossCopulateEnergy(6)
+                        .mutationVariant(MutationVariant.FULL_RANDOM)
+                        .genomeLength(7)
+                        .build())
+                .worldMapConfiguration(WorldMapConfiguration.builder()
+                        .height(8)
+                        .width(8)
+                        .energyGain(5)
+                        .plantGrowth(20)
+                        .startPlantCount(40)
+                        .mapVariant(WorldMapVariant.EARTH)
+                        .plantVariant(PlantVariant.FORESTED_EQUATORS)
+                        .build())
+                .simulationConfiguration(SimulationConfiguration.builder()
+                        .daysCount(2000)
+                        .startAnimalCount(60)
+                        .animalStorage(animalStorage)
+                        .dayStep(dayStep)
+                        .seed(seed)
+                        .build())
+                .build();
+    }
 
     public static Configuration createEarthSimulationNoPlantsAndNoCopulation() {
         return Configuration.builder()
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Set;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -33,7 +34,7 @@ class AnimalFactoryTest {
                 .genomeLength(3)
                 .build();
 
-        var factory = new AnimalFactory(configuration);
+        var factory = new AnimalFactory(configuration, new SplittableRandom(42));
 
         //when
         var animal = factory.createAnimal(new Vector2d(1, 1), 1);
@@ -131,7 +132,7 @@ class AnimalFactoryTest {
                 .genomeLength(3)
                 .build();
 
-        var factory = new AnimalFactory(configuration);
+        var factory = new AnimalFactory(configuration, new SplittableRandom(42));
 
         var genome = new Genome(List.of(new Gen(0), new Gen(1), new Gen(2)));
         var parent1 = Animal.builder()
@@ -174,7 +175,7 @@ class AnimalFactoryTest {
                 .genomeLength(3)
                 .build();
 
-        var factory = new AnimalFactory(configuration);
+        var factory = new AnimalFactory(configuration, new SplittableRandom(42));
 
         var genome = new Genome(List.of(new Gen(0), new Gen(1), new Gen(2)));
         var parent1 = Animal.builder()
@@ -209,7 +210,7 @@ class AnimalFactoryTest {
                 .genomeLength(3)
                 .build();
 
-        var factory = new AnimalFactory(configuration);
+        var factory = new AnimalFactory(configuration, new SplittableRandom(42));
 
         var position = new Vector2d(0, 0);
 
@@ -242,7 +243,7 @@ class AnimalFactoryTest {
         when(parent2.getPartOfGens(anyInt(), anyBoolean())).thenThrow(InvalidCountException.class);
 
 
-        var factory = new AnimalFactory(configuration);
+        var factory = new AnimalFactory(configuration, new SplittableRandom(42));
 
         //when & then
         assertThrows(AnimalNotBirthException.class, () -> factory.birthAnimal(parent1, parent2, 10));
@@ -11,6 +11,8 @@ import agh.ics.oop.model.map.fire.FireEarth;
 import agh.ics.oop.model.map.plant.Earth;
 import org.junit.jupiter.api.Test;
 
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
@@ -27,7 +29,7 @@ class WorldMapFactoryTest {
                 .plantVariant(PlantVariant.FORESTED_EQUATORS)
                 .build();
 
-        var factory = new WorldMapFactory(configuration, null);
+        var factory = new WorldMapFactory(configuration, null, new SplittableRandom(42));
 
         //when
         var map = factory.createWorldMap();
@@ -55,7 +57,7 @@ class WorldMapFactoryTest {
                 .plantVariant(PlantVariant.FORESTED_EQUATORS)
                 .build();
 
-        var factory = new WorldMapFactory(configuration, null);
+        var factory = new WorldMapFactory(configuration, null, new SplittableRandom(42));
 
         //when
         var map = factory.createWorldMap();
@@ -0,0 +1,67 @@
+package agh.ics.oop.listener;
+
+import agh.ics.oop.model.AnimalBreeder;
+import agh.ics.oop.model.MapDirection;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.configuration.PlantVariant;
+import agh.ics.oop.model.elements.Animal;
+import agh.ics.oop.model.elements.Gen;
+import agh.ics.oop.model.elements.Genome;
+import agh.ics.oop.model.elements.Plant;
+import agh.ics.oop.model.exceptions.IncorrectPositionException;
+import agh.ics.oop.model.map.plant.Earth;
+import agh.ics.oop.model.move.MoveDirection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ChangedCellsCollectorTest {
+    private final ChangedCellsCollector sut = new ChangedCellsCollector();
+    private Earth map;
+
+    @BeforeEach
+    void setUp() {
+        map = new Earth(5, 5, 0, 0, 5, PlantVariant.FORESTED_EQUATORS, mock(AnimalBreeder.class), new SplittableRandom(42));
+        map.addListener(sut);
+    }
+
+    @Test
+    void moveShouldMarkBothCellsChanged() throws IncorrectPositionException {
+        //given
+        var animal = Animal.builder()
+                .position(new Vector2d(2, 2))
+                .orientation(MapDirection.NORTH)
+                .genome(new Genome(List.of(new Gen(0))))
+                .build();
+        map.place(animal);
+        sut.drain();
+
+        //when
+        map.move(animal, MoveDirection.FORWARD);
+
+        //then
+        assertEquals(Set.of(new Vector2d(2, 2), new Vector2d(2, 3)), sut.drain());
+    }
+
+    @Test
+    void drainShouldReturnCellsChangedSincePreviousDrain() throws IncorrectPositionException {
+        //given
+        map.placePlant(new Plant(new Vector2d(1, 1)));
+        var firstDrain = sut.drain();
+
+        //when
+        map.removePlant(new Vector2d(1, 1));
+        map.sendDayHasEndedNotification(1);
+
+        //then
+        assertEquals(Set.of(new Vector2d(1, 1)), firstDrain);
+        assertEquals(Set.of(new Vector2d(1, 1)), sut.drain());
+        assertTrue(sut.drain().isEmpty());
+    }
+}
@@ -0,0 +1,109 @@
+package agh.ics.oop.model.elements;
+
+import agh.ics.oop.model.MapDirection;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.move.MoveDirection;
+import agh.ics.oop.model.move.MoveValidator;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class AnimalStoreTest {
+    private final AnimalStore store = new AnimalStore();
+
+    @Test
+    void boundAnimalShouldReadAndWriteThroughStore() {
+        //given
+        var animal = createAnimal(20, MapDirection.EAST);
+        var validator = Mockito.mock(MoveValidator.class);
+        when(validator.canMoveTo(any())).thenReturn(true);
+
+        //when
+        animal.bind(store);
+        animal.decreaseEnergy(5);
+        animal.eat(() -> 3);
+        animal.move(MoveDirection.LEFT, validator);
+
+        //then
+        assertTrue(animal.isBound());
+        assertEquals(1, store.size());
+        assertEquals(18, animal.getEnergy());
+        assertEquals(1, animal.getCountOfEatenPlants());
+        assertEquals(MapDirection.NORTH, animal.getOrientation());
+    }
+
+    @Test
+    void decreaseEnergyShouldUpdateAllBoundAnimals() {
+        //given
+        var animal1 = createAnimal(10, MapDirection.NORTH);
+        var animal2 = createAnimal(1, MapDirection.SOUTH);
+        animal1.bind(store);
+        animal2.bind(store);
+
+        //when
+        store.decreaseEnergy(1);
+
+        //then
+        assertEquals(9, animal1.getEnergy());
+        assertEquals(0, animal2.getEnergy());
+        assertTrue(animal2.isDead());
+    }
+
+    @Test
+    void unbindShouldCopyStateBackAndKeepOtherHandlesValid() {
+        //given
+        var animal1 = createAnimal(10, MapDirection.NORTH);
+        var animal2 = createAnimal(20, MapDirection.WEST);
+        var animal3 = createAnimal(30, MapDirection.SOUTH);
+        animal1.bind(store);
+        animal2.bind(store);
+        animal3.bind(store);
+        animal1.kill();
+        animal1.setEndDay(7);
+
+        //when
+        animal1.unbind();
+        store.decreaseEnergy(2);
+
+        //then
+        assertFalse(animal1.isBound());
+        assertEquals(2, store.size());
+        assertEquals(0, animal1.getEnergy());
+        assertEquals(7, animal1.getEndDay());
+        assertEquals(18, animal2.getEnergy());
+        assertEquals(MapDirection.WEST, animal2.getOrientation());
+        assertEquals(28, animal3.getEnergy());
+        assertEquals(MapDirection.SOUTH, animal3.getOrientation());
+    }
+
+    @Test
+    void bindShouldGrowStoreBeyondInitialCapacity() {
+        //given
+        var animals = new ArrayList<Animal>();
+        for (int i = 0; i < 200; i++) {
+            animals.add(createAnimal(i + 1, MapDirection.NORTH));
+        }
+
+        //when
+        animals.forEach(animal -> animal.bind(store));
+
+        //then
+        assertEquals(200, store.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i + 1, animals.get(i).getEnergy());
+        }
+    }
+
+    private Animal createAnimal(int energy, MapDirection orientation) {
+        return Animal.builder()
+                .energy(energy)
+                .position(new Vector2d(1, 1))
+                .orientation(orientation)
+                .build();
+    }
+}
@@ -798,4 +798,44 @@ class AnimalTest {
         assertEquals(2, animal1.getCountOfDescendants());
     }
 
-}
\ No newline at end of file
+
+    @Test
+    void countOfDescendantsShouldMatchDescendantsWhenLinkedBottomUp() {
+        // given
+        var position = new Vector2d(2, 2);
+        var grandparent = new Animal(position, null);
+        var leftParent = new Animal(position, null);
+        var rightParent = new Animal(position, null);
+        var child = new Animal(position, null);
+        var grandchild = new Animal(position, null);
+
+        // when
+        child.addChild(grandchild);
+        leftParent.addChild(child);
+        rightParent.addChild(child);
+        grandparent.addChild(leftParent);
+        grandparent.addChild(rightParent);
+
+        // then
+        assertEquals(1, child.getCountOfDescendants());
+        assertEquals(2, leftParent.getCountOfDescendants());
+        assertEquals(2, rightParent.getCountOfDescendants());
+        assertEquals(4, grandparent.getCountOfDescendants());
+        assertEquals(grandparent.getDescendants().size(), grandparent.getCountOfDescendants());
+    }
+
+    @Test
+    void addingSameChildTwiceShouldNotChangeCountOfDescendants() {
+        // given
+        var position = new Vector2d(2, 2);
+        var parent = new Animal(position, null);
+        var child = new Animal(position, null);
+        parent.addChild(child);
+
+        // when
+        parent.addChild(child);
+
+        // then
+        assertEquals(1, parent.getCountOfDescendants());
+    }
+}
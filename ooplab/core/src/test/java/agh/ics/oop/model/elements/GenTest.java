@@ -4,6 +4,8 @@ import agh.ics.oop.model.MapDirection;
 import agh.ics.oop.model.configuration.MutationVariant;
 import org.junit.jupiter.api.Test;
 
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GenTest {
@@ -132,19 +134,21 @@ class GenTest {
 
     @Test
     void mutateGenFullRandom() {
+        var random = new SplittableRandom(42);
         for (int i = 0; i < 8; i++) {
             var gen = new Gen(i);
-            gen.mutate(MutationVariant.FULL_RANDOM);
-            assertNotEquals(i, gen.getIndex());
+            var mutated = gen.mutate(MutationVariant.FULL_RANDOM, random);
+            assertNotEquals(i, mutated.getIndex());
+            assertEquals(i, gen.getIndex());
         }
     }
 
     @Test
     void mutateGenLittleCorrection() {
+        var random = new SplittableRandom(42);
         for (int i = 0; i < 8; i++) {
             var gen = new Gen(i);
-            gen.mutate(MutationVariant.LITTLE_CORRECTION);
-            int mutatedIndex = gen.getIndex();
+            int mutatedIndex = gen.mutate(MutationVariant.LITTLE_CORRECTION, random).getIndex();
 
             assertNotEquals(i, mutatedIndex);
             if (i == 0) {
@@ -6,10 +6,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.*;
 
 class GenomeTest {
 
@@ -47,54 +48,83 @@ class GenomeTest {
     @EnumSource(MutationVariant.class)
     void mutateGenomeShouldChangeGenParams(MutationVariant mutationVariant) {
         // given
-        var gen1 = mock(Gen.class);
-        var gen2 = mock(Gen.class);
-        var gen3 = mock(Gen.class);
-        var gens = List.of(gen1, gen2, gen3);
+        var gens = List.of(new Gen(0), new Gen(1), new Gen(2));
         var genome = new Genome(gens, mutationVariant);
 
         //when
-        genome.mutate(2);
+        genome.mutate(2, new SplittableRandom(42));
 
         //then
-        var mutatedCount = 0;
-        for (var gen : gens) {
-            mutatedCount += wasMockGenMutated(gen, mutationVariant) ? 1 : 0;
-        }
-
-        assertEquals(2, mutatedCount);
+        assertEquals(2, countChangedGens(gens, genome));
     }
 
 
     @Test
     void mutateGenomeShouldMutateAllGensWhenCountIsHigherThanGensSize() {
         // given
-        var mutationVariant = MutationVariant.FULL_RANDOM;
-        var gen1 = mock(Gen.class);
-        var gens = List.of(gen1);
-        var genome = new Genome(gens, mutationVariant);
+        var gens = List.of(new Gen(3));
+        var genome = new Genome(gens, MutationVariant.FULL_RANDOM);
 
         //when
-        genome.mutate(4);
+        genome.mutate(4, new SplittableRandom(42));
 
         //then
-        verify(gens.getFirst(), times(1)).mutate(mutationVariant);
+        assertEquals(1, countChangedGens(gens, genome));
     }
 
 
     @Test
     void mutateGenomeCountLessThanZeroShouldDoNothing() {
         // given
-        var mutationVariant = MutationVariant.FULL_RANDOM;
-        var gen1 = mock(Gen.class);
-        var gens = List.of(gen1);
-        var genome = new Genome(gens, mutationVariant);
+        var gens = List.of(new Gen(3));
+        var genome = new Genome(gens, MutationVariant.FULL_RANDOM);
+
+        //when
+        genome.mutate(-1, new SplittableRandom(42));
+
+        //then
+        assertEquals(0, countChangedGens(gens, genome));
+    }
+
+    @Test
+    void genomeShouldPackGensAcrossWords() {
+        // given
+        var gens = IntStream.range(0, 50)
+                .mapToObj(i -> new Gen(i % 8))
+                .toList();
+
+        //when
+        var genome = new Genome(gens);
+
+        //then
+        assertEquals(50, genome.size());
+        assertEquals(gens, genome.getGens());
+    }
+
+    @Test
+    void crossoverShouldJoinDominatingLeftPartWithOtherRightPart() {
+        // given
+        var dominating = new Genome(List.of(new Gen(0), new Gen(1), new Gen(2), new Gen(3)));
+        var other = new Genome(List.of(new Gen(4), new Gen(5), new Gen(6), new Gen(7)));
+
+        //when
+        var child = Genome.crossover(dominating, other, 3, 1, true, MutationVariant.FULL_RANDOM, 0);
+
+        //then
+        assertEquals(List.of(new Gen(0), new Gen(1), new Gen(2), new Gen(7)), child.getGens());
+    }
+
+    @Test
+    void crossoverShouldJoinDominatingRightPartWithOtherLeftPart() {
+        // given
+        var dominating = new Genome(List.of(new Gen(0), new Gen(1), new Gen(2), new Gen(3)));
+        var other = new Genome(List.of(new Gen(4), new Gen(5), new Gen(6), new Gen(7)));
 
         //when
-        genome.mutate(-1);
+        var child = Genome.crossover(dominating, other, 1, 3, false, MutationVariant.FULL_RANDOM, 0);
 
         //then
-        verify(gens.getFirst(), times(0)).mutate(mutationVariant);
+        assertEquals(List.of(new Gen(3), new Gen(4), new Gen(5), new Gen(6)), child.getGens());
     }
 
     @Test
@@ -164,12 +194,11 @@ class GenomeTest {
         assertEquals(gens.getLast(), partOfGenomeRight.getLast());
     }
 
-    private boolean wasMockGenMutated(Gen gen, MutationVariant mutationVariant) {
-        try {
-            verify(gen, times(1)).mutate(mutationVariant);
-            return true;
-        } catch (AssertionError e) {
-            return false;
+    private int countChangedGens(List<Gen> gens, Genome genome) {
+        var changedCount = 0;
+        for (int i = 0; i < gens.size(); i++) {
+            changedCount += gens.get(i).equals(genome.getGens().get(i)) ? 0 : 1;
         }
+        return changedCount;
     }
 }
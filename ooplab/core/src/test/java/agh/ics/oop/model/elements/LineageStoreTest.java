@@ -0,0 +1,137 @@
+package agh.ics.oop.model.elements;
+
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.configuration.LineageRetention;
+import agh.ics.oop.model.exceptions.LineageNotAvailableException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineageStoreTest {
+
+    @Test
+    void sharedAncestorShouldCountNewbornOnce() {
+        //given
+        var store = new LineageStore(LineageRetention.FULL, 10);
+        var grandparent = createAnimal(store);
+        var otherGrandparent = createAnimal(store);
+        var leftParent = createAnimal(store);
+        var rightParent = createAnimal(store);
+        grandparent.addChild(leftParent);
+        otherGrandparent.addChild(leftParent);
+        grandparent.addChild(rightParent);
+        var child = createAnimal(store);
+
+        //when
+        leftParent.birthAnimal(child, 0);
+        rightParent.birthAnimal(child, 0);
+
+        //then
+        assertEquals(3, grandparent.getCountOfDescendants());
+        assertEquals(2, otherGrandparent.getCountOfDescendants());
+        assertEquals(1, leftParent.getCountOfDescendants());
+        assertEquals(1, rightParent.getCountOfDescendants());
+        assertEquals(2, grandparent.getCountOfChildren());
+        assertThrows(LineageNotAvailableException.class, grandparent::getChildren);
+        assertThrows(LineageNotAvailableException.class, child::getParents);
+        assertThrows(LineageNotAvailableException.class, grandparent::getDescendants);
+        assertEquals(2, store.getMaxGeneration());
+    }
+
+    @Test
+    void linkingSameChildTwiceShouldBeIgnored() {
+        //given
+        var store = new LineageStore(LineageRetention.FULL, 10);
+        var parent = createAnimal(store);
+        var child = createAnimal(store);
+        parent.addChild(child);
+
+        //when
+        parent.addChild(child);
+
+        //then
+        assertEquals(1, parent.getCountOfChildren());
+        assertEquals(1, parent.getCountOfDescendants());
+    }
+
+    @Test
+    void fullRetentionShouldKeepCountingThroughDeadAncestors() {
+        //given
+        var store = new LineageStore(LineageRetention.FULL, 1);
+        var grandparent = createAnimal(store);
+        var parent = createAnimal(store);
+        grandparent.addChild(parent);
+        store.retire(grandparent);
+
+        //when
+        parent.addChild(createAnimal(store));
+
+        //then
+        assertEquals(3, store.size());
+        assertEquals(2, grandparent.getCountOfDescendants());
+    }
+
+    @Test
+    void lastGenerationsShouldKeepMemoryFlatAcrossGenerations() {
+        //given
+        var store = new LineageStore(LineageRetention.LAST_GENERATIONS, 2);
+        var parent = createAnimal(store);
+
+        //when
+        for (int generation = 0; generation < 100; generation++) {
+            var child = createAnimal(store);
+            parent.addChild(child);
+            store.retire(parent);
+            parent = child;
+        }
+
+        //then
+        assertEquals(100, store.getMaxGeneration());
+        assertTrue(store.size() <= 4);
+    }
+
+    @Test
+    void retiredAnimalShouldRememberDescendantsAfterRecordIsDropped() {
+        //given
+        var store = new LineageStore(LineageRetention.LAST_GENERATIONS, 1);
+        var grandparent = createAnimal(store);
+        var parent = createAnimal(store);
+        grandparent.addChild(parent);
+        parent.addChild(createAnimal(store));
+        store.retire(grandparent);
+
+        //when
+        var child = createAnimal(store);
+        parent.addChild(child);
+        child.addChild(createAnimal(store));
+        child.addChild(createAnimal(store));
+
+        //then
+        assertEquals(2, grandparent.getCountOfDescendants());
+        assertEquals(4, parent.getCountOfDescendants());
+    }
+
+    @Test
+    void aggregatesOnlyShouldKeepOnlyLivingAnimalsAndCountChildren() {
+        //given
+        var store = new LineageStore(LineageRetention.AGGREGATES_ONLY, 10);
+        var grandparent = createAnimal(store);
+        var parent = createAnimal(store);
+        grandparent.addChild(parent);
+
+        //when
+        parent.addChild(createAnimal(store));
+        store.retire(grandparent);
+
+        //then
+        assertEquals(2, store.size());
+        assertEquals(1, grandparent.getCountOfDescendants());
+        assertEquals(1, parent.getCountOfDescendants());
+    }
+
+    private static Animal createAnimal(LineageStore store) {
+        var animal = new Animal(new Vector2d(0, 0), null);
+        store.register(animal);
+        return animal;
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -35,7 +36,7 @@ class FireEarthTest {
     void placePlantShouldSucceed() {
         // given
         var plant = new Plant(new Vector2d(0, 0));
-        var fireEarth = new FireEarth(1, 1, 1, 10, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var fireEarth = new FireEarth(1, 1, 1, 10, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
 
         //when & then
         try {
@@ -51,7 +52,7 @@ class FireEarthTest {
     void placePlantShouldThrowExceptionWhenPlacePlantAtFire() {
         // given
         var plant = new Plant(new Vector2d(0, 0));
-        var fireEarth = new FireEarth(1, 1, 1, 10, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var fireEarth = new FireEarth(1, 1, 1, 10, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
         try {
             fireEarth.placePlant(plant);
             assertTrue(fireEarth.isPlantAtPosition(new Vector2d(0, 0)));
@@ -70,7 +71,7 @@ class FireEarthTest {
     @Test
     void placeFireShouldSucceed() {
         //given
-        var fireEarth = new FireEarth(10, 10, 2, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var fireEarth = new FireEarth(10, 10, 2, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
         var position = new Vector2d(5, 5);
 
         try {
@@ -91,7 +92,7 @@ class FireEarthTest {
     @Test
     void placeFireShouldFail() {
         //given
-        var fireEarth = new FireEarth(10, 10, 2, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var fireEarth = new FireEarth(10, 10, 2, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
         var fireOutsideMap = new Fire(new Vector2d(-1, 10), 2);
         var fireNotAtPlant = new Fire(new Vector2d(2, 2), 2);
 
@@ -108,7 +109,7 @@ class FireEarthTest {
     @Test
     void canPlaceFireShouldReturnTrue() {
         //given
-        var fireEarth = new FireEarth(10, 10, 2, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var fireEarth = new FireEarth(10, 10, 2, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
         var position = new Vector2d(5, 5);
 
         try {
@@ -127,7 +128,7 @@ class FireEarthTest {
     @Test
     void canPLaceFireShouldReturnFalseWhenPlaceNotAtPlant() {
         //given
-        var fireEarth = new FireEarth(10, 10, 2, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var fireEarth = new FireEarth(10, 10, 2, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
         var position = new Vector2d(5, 5);
 
         try {
@@ -149,7 +150,7 @@ class FireEarthTest {
     @Test
     void canPLaceFireShouldReturnFalseWhenPlaceAtOtherFire() {
         //given
-        var fireEarth = new FireEarth(10, 10, 2, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var fireEarth = new FireEarth(10, 10, 2, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
         var position = new Vector2d(5, 5);
         //when
         var result = fireEarth.canPlaceFire(position);
@@ -162,7 +163,7 @@ class FireEarthTest {
     @Test
     void canPLaceFireShouldReturnFalseWhenOutsideMap() {
         //given
-        var fireEarth = new FireEarth(10, 10, 2, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var fireEarth = new FireEarth(10, 10, 2, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
 
         //when & then
         assertFalse(fireEarth.canPlaceFire(new Vector2d(-1, -1)));
@@ -177,7 +178,7 @@ class FireEarthTest {
     @Test
     void handleDayEndsShouldCreateNewFire() {
         // given
-        var fireEarth = new FireEarth(10, 10, 1, 10, 0, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var fireEarth = new FireEarth(10, 10, 1, 10, 0, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
         var animal = Animal.builder()
                 .energy(15)
                 .orientation(MapDirection.SOUTH)
@@ -223,7 +224,7 @@ class FireEarthTest {
     @Test
     void handleDayEndsShouldSpreadFire() {
         // given
-        var fireEarth = new FireEarth(10, 10, 1, 2, 0, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var fireEarth = new FireEarth(10, 10, 1, 2, 0, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
         var fireCenter = new Vector2d(3, 3);
 
         try {
@@ -267,7 +268,7 @@ class FireEarthTest {
     @Test
     void handleDayEndsShouldBurnRemoveFires() {
         //given
-        var fireEarth = new FireEarth(10, 10, 1, 2, 0, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var fireEarth = new FireEarth(10, 10, 1, 2, 0, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
 
         try {
             fireEarth.placePlant(new Plant(new Vector2d(3, 3)));
@@ -304,7 +305,7 @@ class FireEarthTest {
     @Test
     void animalStepOnFireShouldKill() {
         //given
-        var fireEarth = new FireEarth(10, 10, 1, 2, 0, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var fireEarth = new FireEarth(10, 10, 1, 2, 0, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
         var animal = Animal.builder()
                 .position(new Vector2d(2, 3))
                 .genome(new Genome(List.of(new Gen(4))))
@@ -331,4 +332,43 @@ class FireEarthTest {
         assertTrue(animal.isDead());
     }
 
-}
\ No newline at end of file
+    @Test
+    void tryPlaceFireShouldReportStatusWithoutThrowing() {
+        //given
+        var fireEarth = new FireEarth(5, 5, 1, 2, 0, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
+        fireEarth.tryPlacePlant(new Plant(new Vector2d(2, 2)));
+
+        //when
+        var withoutPlant = fireEarth.tryPlaceFire(new Fire(new Vector2d(1, 1), 2));
+        var placed = fireEarth.tryPlaceFire(new Fire(new Vector2d(2, 2), 2));
+        var occupied = fireEarth.tryPlaceFire(new Fire(new Vector2d(2, 2), 2));
+        var outOfBounds = fireEarth.tryPlaceFire(new Fire(new Vector2d(7, 7), 2));
+        var plantAtFire = fireEarth.tryPlacePlant(new Plant(new Vector2d(2, 2)));
+
+        //then
+        assertEquals(PlacementStatus.REJECTED, withoutPlant);
+        assertEquals(PlacementStatus.PLACED, placed);
+        assertEquals(PlacementStatus.OCCUPIED, occupied);
+        assertEquals(PlacementStatus.OUT_OF_BOUNDS, outOfBounds);
+        assertEquals(PlacementStatus.OCCUPIED, plantAtFire);
+    }
+
+    @Test
+    void plantsShouldGrowOnlyOnFieldsWithoutFire() {
+        //given
+        var fireEarth = new FireEarth(3, 3, 0, 100, 8, 0, 5, PlantVariant.FULL_RANDOM, breeder, new SplittableRandom(42));
+        fireEarth.tryPlacePlant(new Plant(new Vector2d(1, 1)));
+        fireEarth.tryPlaceFire(new Fire(new Vector2d(1, 1), 100));
+
+        //when
+        fireEarth.handleDayEnds(1);
+
+        //then
+        for (int x = 0; x < 3; x++) {
+            for (int y = 0; y < 3; y++) {
+                var position = new Vector2d(x, y);
+                assertNotEquals(fireEarth.isPlantAtPosition(position), fireEarth.isFireAtPosition(position));
+            }
+        }
+    }
+}
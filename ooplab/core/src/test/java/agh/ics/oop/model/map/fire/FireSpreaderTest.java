@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -21,7 +22,7 @@ class FireSpreaderTest {
     @BeforeEach
     void setUp() {
         fireValidator = mock(FireValidator.class);
-        fireSpreader = new FireSpreader(10);
+        fireSpreader = new FireSpreader(10, new SplittableRandom(42));
     }
 
 
@@ -13,6 +13,7 @@ import agh.ics.oop.model.elements.Plant;
 import agh.ics.oop.model.exceptions.IncorrectPositionException;
 import agh.ics.oop.model.exceptions.PositionOccupiedByWorldElementException;
 import agh.ics.oop.model.exceptions.PositionOutOfMapBoundaryException;
+import agh.ics.oop.model.map.PlacementStatus;
 import agh.ics.oop.model.move.Move;
 import agh.ics.oop.model.move.MoveDirection;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,7 +22,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,7 +45,7 @@ class EarthTest {
                 .orientation(MapDirection.NORTH)
                 .build());
 
-        map = new Earth(5, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        map = new Earth(5, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
     }
 
     @Test
@@ -375,8 +379,8 @@ class EarthTest {
 
     @Test
     void getSizeShouldReturn() {
-        var map1 = new Earth(4, 10, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
-        var map2 = new Earth(14, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var map1 = new Earth(4, 10, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
+        var map2 = new Earth(14, 5, 5, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
 
 
         var mapBoundary1 = map1.getCurrentBounds();
@@ -412,7 +416,7 @@ class EarthTest {
     @Test
     void animalStepOnPlantShouldIncreaseEnergy() {
         // given
-        var earth = new Earth(10, 10, 10, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var earth = new Earth(10, 10, 10, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
         var plant = new Plant(new Vector2d(2, 2), 5);
         var animal = Animal.builder()
                 .position(new Vector2d(2, 2))
@@ -440,7 +444,7 @@ class EarthTest {
     @Test
     void animalStepOnPlantShouldIncreaseEnergyByStrongerAnimal() {
         // given
-        var earth = new Earth(10, 10, 10, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var earth = new Earth(10, 10, 10, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
         var plant = new Plant(new Vector2d(2, 2), 5);
         var strongerAnimal = Animal.builder()
                 .position(new Vector2d(2, 2))
@@ -478,7 +482,7 @@ class EarthTest {
     @Test
     void handleDayEndsShouldGrowNewPlants() {
         // given
-        var earth = new Earth(10, 10, 10, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var earth = new Earth(10, 10, 10, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
 
         // when
         earth.handleDayEnds(1);
@@ -499,12 +503,12 @@ class EarthTest {
                 .startEnergy(50)
                 .build();
 
-        var factory = new AnimalFactory(animalConfiguration);
+        var factory = new AnimalFactory(animalConfiguration, new SplittableRandom(42));
         AnimalBreeder breeder = (animal1, animal2) -> factory.birthAnimal(animal1, animal2, 1);
 
         var parent1 = factory.createAnimal(new Vector2d(0, 3), 1);
         var parent2 = factory.createAnimal(new Vector2d(0, 3), 1);
-        var earth = new Earth(10, 10, 10, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var earth = new Earth(10, 10, 10, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
 
         try {
             earth.place(parent1);
@@ -548,7 +552,7 @@ class EarthTest {
                 .startEnergy(50)
                 .build();
 
-        var factory = new AnimalFactory(animalConfiguration);
+        var factory = new AnimalFactory(animalConfiguration, new SplittableRandom(42));
         AnimalBreeder breeder = (animal1, animal2) -> factory.birthAnimal(animal1, animal2, 1);
 
         var parent1 = factory.createAnimal(new Vector2d(0, 3), 1);
@@ -566,7 +570,7 @@ class EarthTest {
                 .build();
 
 
-        var earth = new Earth(10, 10, 10, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder);
+        var earth = new Earth(10, 10, 10, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
 
         try {
             earth.place(parent1);
@@ -621,4 +625,114 @@ class EarthTest {
                 Arguments.of(new Plant(new Vector2d(5, 5)))
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void tryPlacePlantShouldReportStatusWithoutThrowing() {
+        //given
+        var plant = new Plant(new Vector2d(1, 1));
+
+        //when
+        var placed = map.tryPlacePlant(plant);
+        var occupied = map.tryPlacePlant(new Plant(new Vector2d(1, 1)));
+        var outOfBounds = map.tryPlacePlant(new Plant(new Vector2d(5, 5)));
+
+        //then
+        assertEquals(PlacementStatus.PLACED, placed);
+        assertEquals(PlacementStatus.OCCUPIED, occupied);
+        assertEquals(PlacementStatus.OUT_OF_BOUNDS, outOfBounds);
+        assertTrue(map.isPlantAtPosition(new Vector2d(1, 1)));
+    }
+
+    @Test
+    void tryPlaceShouldReportOutOfBoundsAnimal() {
+        //given
+        var animal = Animal.builder().position(new Vector2d(-1, 2)).build();
+
+        //when
+        var status = map.tryPlace(animal);
+
+        //then
+        assertEquals(PlacementStatus.OUT_OF_BOUNDS, status);
+        assertFalse(map.getAnimals().contains(animal));
+    }
+
+    @Test
+    void clearDeadAndMoveAnimalsShouldReportDeadAndMoveLiving() {
+        //given
+        var living = Animal.builder()
+                .energy(10)
+                .position(new Vector2d(2, 2))
+                .orientation(MapDirection.NORTH)
+                .genome(new Genome(List.of(new Gen(0))))
+                .build();
+        var dead = Animal.builder()
+                .position(new Vector2d(2, 2))
+                .orientation(MapDirection.NORTH)
+                .genome(new Genome(List.of(new Gen(0))))
+                .build();
+        map.tryPlace(living);
+        map.tryPlace(dead);
+        var died = new ArrayList<Animal>();
+        var moved = new ArrayList<Animal>();
+
+        //when
+        map.clearDeadAndMoveAnimals(died::add, moved::add);
+
+        //then
+        assertEquals(List.of(dead), died);
+        assertEquals(List.of(living), moved);
+        assertEquals(new Vector2d(2, 3), living.getPosition());
+        assertEquals(List.of(living), map.getAnimalsAtPosition(new Vector2d(2, 3)));
+        assertTrue(map.getAnimalsAtPosition(new Vector2d(2, 2)).isEmpty());
+    }
+
+    @Test
+    void parallelDayStepShouldMoveAndFeedLikeSequentialStep() {
+        //given
+        var pool = new ForkJoinPool(3);
+        var parallelMap = new Earth(5, 5, 0, 0, 5, PlantVariant.FORESTED_EQUATORS, breeder, new SplittableRandom(42));
+        parallelMap.setDayStepPool(pool);
+        var sequentialAnimals = placeGrazingAnimals(map);
+        var parallelAnimals = placeGrazingAnimals(parallelMap);
+
+        //when
+        try {
+            for (var worldMap : List.of(map, parallelMap)) {
+                worldMap.clearDeadAndMoveAnimals(animal -> {
+                }, animal -> animal.decreaseEnergy(1));
+                worldMap.handleDayEnds(1);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        //then
+        for (int i = 0; i < sequentialAnimals.size(); i++) {
+            var sequential = sequentialAnimals.get(i);
+            var parallel = parallelAnimals.get(i);
+            assertEquals(sequential.getPosition(), parallel.getPosition());
+            assertEquals(sequential.getEnergy(), parallel.getEnergy());
+            assertEquals(sequential.getCountOfEatenPlants(), parallel.getCountOfEatenPlants());
+        }
+        assertEquals(map.getAnimals().size(), parallelMap.getAnimals().size());
+    }
+
+    private static List<Animal> placeGrazingAnimals(Earth worldMap) {
+        var animals = new ArrayList<Animal>();
+        for (int x = 0; x < 5; x++) {
+            for (int i = 0; i < 3; i++) {
+                var animal = Animal.builder()
+                        .energy(10 + x + i)
+                        .position(new Vector2d(x, 1))
+                        .orientation(MapDirection.NORTH)
+                        .wellFedEnergy(100)
+                        .genome(new Genome(List.of(new Gen(i))))
+                        .build();
+                worldMap.tryPlace(animal);
+                animals.add(animal);
+            }
+            worldMap.tryPlacePlant(new Plant(new Vector2d(x, 2)));
+        }
+        return animals;
+    }
+}
@@ -4,11 +4,12 @@ import agh.ics.oop.model.Boundary;
 import agh.ics.oop.model.Vector2d;
 import agh.ics.oop.model.configuration.PlantVariant;
 import agh.ics.oop.model.elements.Plant;
+import agh.ics.oop.model.util.FreeCellIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,8 +21,8 @@ class GardenerTest {
 
     @BeforeEach
     void setUp() {
-        gardenerForestedEquators = new Gardener(PlantVariant.FORESTED_EQUATORS, 10, 5);
-        gardenerFullRandom = new Gardener(PlantVariant.FULL_RANDOM, 10, 5);
+        gardenerForestedEquators = new Gardener(PlantVariant.FORESTED_EQUATORS, 10, 5, new SplittableRandom(42));
+        gardenerFullRandom = new Gardener(PlantVariant.FULL_RANDOM, 10, 5, new SplittableRandom(42));
 
         boundary = new Boundary(new Vector2d(0, 0), new Vector2d(9, 9));
     }
@@ -29,16 +30,14 @@ class GardenerTest {
     @Test
     void testCreatePlantsDaily_LimitedAvailableSpace() {
         // Given
-        Set<Vector2d> unavailablePositions = new HashSet<>();
-        unavailablePositions.add(new Vector2d(1, 1));
+        var freeCells = createFreeCells(boundary, PlantVariant.FORESTED_EQUATORS, 91);
         Boundary boundary2 = new Boundary(new Vector2d(0, 0), new Vector2d(0, 0));
-        Set<Vector2d> unavailablePositions2 = new HashSet<>();
-        unavailablePositions2.add(new Vector2d(0, 0));
+        var freeCells2 = createFreeCells(boundary2, PlantVariant.FORESTED_EQUATORS, 1);
 
 
         // when
-        Set<Plant> plants = gardenerForestedEquators.createPlantsDaily(91, 100, boundary, unavailablePositions);
-        Set<Plant> plants2 = gardenerForestedEquators.createPlantsDaily(90, 100, boundary2, unavailablePositions2);
+        Set<Plant> plants = gardenerForestedEquators.createPlantsDaily(freeCells);
+        Set<Plant> plants2 = gardenerForestedEquators.createPlantsDaily(freeCells2);
 
         // then
         assertEquals(9, plants.size(), "Expected exactly 9 plants to be created.");
@@ -48,15 +47,10 @@ class GardenerTest {
     @Test
     void testCreatePlantsDaily_AllPositionsUnavailable() {
         // given
-        Set<Vector2d> unavailablePositions = new HashSet<>();
-        for (int x = 0; x < 10; x++) {
-            for (int y = 0; y < 10; y++) {
-                unavailablePositions.add(new Vector2d(x, y));
-            }
-        }
+        var freeCells = createFreeCells(boundary, PlantVariant.FORESTED_EQUATORS, 100);
 
         // when
-        Set<Plant> plants = gardenerForestedEquators.createPlantsDaily(90, 100, boundary, unavailablePositions);
+        Set<Plant> plants = gardenerForestedEquators.createPlantsDaily(freeCells);
 
         // then
         assertTrue(plants.isEmpty(), "No plants should be created when all positions are unavailable.");
@@ -65,10 +59,10 @@ class GardenerTest {
     @Test
     void testCreatePlantsDaily_FullRandom() {
         // given
-        Set<Vector2d> unavailablePositions = new HashSet<>();
+        var freeCells = createFreeCells(boundary, PlantVariant.FULL_RANDOM, 90);
 
         // when
-        Set<Plant> plants = gardenerFullRandom.createPlantsDaily(90, 100, boundary, unavailablePositions);
+        Set<Plant> plants = gardenerFullRandom.createPlantsDaily(freeCells);
 
         // then
         assertEquals(10, plants.size(), "Expected 10 plants to be created in FULL_RANDOM variant.");
@@ -79,10 +73,10 @@ class GardenerTest {
     @Test
     void testCreatePlants_ExceedAvailableSpace() {
         // given
-        Set<Vector2d> unavailablePositions = new HashSet<>();
+        var freeCells = createFreeCells(boundary, PlantVariant.FORESTED_EQUATORS, 95);
 
         // when
-        Set<Plant> plants = gardenerForestedEquators.createPlants(95, 100, boundary, 10, unavailablePositions);
+        Set<Plant> plants = gardenerForestedEquators.createPlants(freeCells, 10);
 
         // then
         assertEquals(5, plants.size(), "Only 5 plants should be created due to space limitations.");
@@ -92,27 +86,40 @@ class GardenerTest {
     @Test
     void testRandomPositionGeneration_ForestedEquators() {
         // given
-        Set<Vector2d> unavailablePositions = new HashSet<>();
-        unavailablePositions.add(new Vector2d(0, 0));
+        var freeCells = createFreeCells(boundary, PlantVariant.FORESTED_EQUATORS, 0);
+        freeCells.markTaken(new Vector2d(0, 0));
 
         // when
-        Set<Plant> plants = gardenerForestedEquators.createPlants(0, 100, boundary, 10, unavailablePositions);
+        Set<Plant> plants = gardenerForestedEquators.createPlants(freeCells, 10);
 
         // then
         assertEquals(10, plants.size(), "10 plants should be created in FORESTED_EQUATORS variant.");
         assertTrue(plants.stream().allMatch(plant -> plant.getPosition().getX() >= 0 && plant.getPosition().getY() >= 0),
                 "All plant positions should be within the boundary.");
+        assertTrue(plants.stream().noneMatch(plant -> plant.getPosition().equals(new Vector2d(0, 0))),
+                "Taken position should not be used.");
     }
 
     @Test
     void testRandomPositionGeneration_FullRandom() {
         // given
-        Set<Vector2d> unavailablePositions = new HashSet<>();
+        var freeCells = createFreeCells(boundary, PlantVariant.FULL_RANDOM, 0);
 
         // when
-        Set<Plant> plants = gardenerFullRandom.createPlants(0, 100, boundary, 10, unavailablePositions);
+        Set<Plant> plants = gardenerFullRandom.createPlants(freeCells, 10);
 
         // then
         assertEquals(10, plants.size(), "10 plants should be created in FULL_RANDOM variant.");
+        assertEquals(90, freeCells.getFreeCount(), "Used positions should be marked as taken.");
+    }
+
+    private static FreeCellIndex createFreeCells(Boundary boundary, PlantVariant plantVariant, int takenCount) {
+        var width = boundary.rightTopCorner().getX() + 1;
+        var height = boundary.rightTopCorner().getY() + 1;
+        var freeCells = new FreeCellIndex(width, height, Gardener.getPreferredArea(plantVariant, boundary));
+        for (int i = 0; i < takenCount; i++) {
+            freeCells.markTaken(new Vector2d(i % width, i / width));
+        }
+        return freeCells;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,140 @@
+package agh.ics.oop.model.map.simulation;
+
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.elements.Animal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnimalGridTest {
+    private AnimalGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new AnimalGrid(4, 3);
+    }
+
+    @Test
+    void addShouldPlaceAnimalsInTheirCell() {
+        //given
+        var animal1 = createAnimal(new Vector2d(1, 2), 10);
+        var animal2 = createAnimal(new Vector2d(1, 2), 10);
+        var animal3 = createAnimal(new Vector2d(3, 0), 10);
+
+        //when
+        grid.add(animal1);
+        grid.add(animal2);
+        grid.add(animal3);
+
+        //then
+        assertEquals(3, grid.getAnimalCount());
+        assertEquals(2, grid.getOccupiedCellsCount());
+        assertEquals(2, grid.sizeAt(new Vector2d(1, 2)));
+        assertTrue(grid.animalsAt(new Vector2d(1, 2)).containsAll(List.of(animal1, animal2)));
+        assertEquals(List.of(animal3), grid.animalsAt(new Vector2d(3, 0)));
+        assertEquals(0, grid.sizeAt(new Vector2d(0, 0)));
+    }
+
+    @Test
+    void addShouldGrowCellBeyondInitialCapacity() {
+        //given
+        var position = new Vector2d(2, 1);
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            grid.add(createAnimal(position, 10));
+        }
+
+        //then
+        assertEquals(10, grid.sizeAt(position));
+        assertEquals(1, grid.getOccupiedCellsCount());
+    }
+
+    @Test
+    void removeShouldFreeCellWhenLastAnimalLeaves() {
+        //given
+        var animal1 = createAnimal(new Vector2d(0, 0), 10);
+        var animal2 = createAnimal(new Vector2d(2, 2), 10);
+        grid.add(animal1);
+        grid.add(animal2);
+
+        //when
+        var removed = grid.remove(animal1);
+
+        //then
+        assertTrue(removed);
+        assertFalse(grid.remove(animal1));
+        assertEquals(1, grid.getOccupiedCellsCount());
+        assertEquals(grid.cellIndex(new Vector2d(2, 2)), grid.getOccupiedCell(0));
+        assertTrue(grid.animalsAt(new Vector2d(0, 0)).isEmpty());
+    }
+
+    @Test
+    void removeIfAndCollectShouldReturnRemainingAnimals() {
+        //given
+        var alive1 = createAnimal(new Vector2d(1, 1), 10);
+        var alive2 = createAnimal(new Vector2d(2, 0), 10);
+        var dead = createAnimal(new Vector2d(1, 1), 0);
+        List.of(alive1, dead, alive2).forEach(grid::add);
+        var removed = new ArrayList<Animal>();
+
+        //when
+        var remaining = grid.removeIfAndCollect(Animal::isDead, removed::add, new Animal[1]);
+
+        //then
+        assertEquals(List.of(dead), removed);
+        assertEquals(2, grid.getAnimalCount());
+        assertTrue(Arrays.asList(remaining).subList(0, 2).containsAll(List.of(alive1, alive2)));
+    }
+
+    @Test
+    void cellPositionShouldBeInverseOfCellIndex() {
+        //given
+        var position = new Vector2d(3, 2);
+
+        //when
+        var cell = grid.cellIndex(position);
+
+        //then
+        assertEquals(11, cell);
+        assertEquals(position, grid.cellPosition(cell));
+    }
+
+    @Test
+    void forEachShouldVisitEveryAnimal() {
+        //given
+        grid.add(createAnimal(new Vector2d(0, 0), 10));
+        grid.add(createAnimal(new Vector2d(0, 0), 10));
+        grid.add(createAnimal(new Vector2d(3, 1), 10));
+        var visited = new ArrayList<Animal>();
+
+        //when
+        grid.forEach(visited::add);
+
+        //then
+        assertEquals(3, visited.size());
+    }
+
+    @Test
+    void positionOutsideGridShouldBeEmpty() {
+        //given
+        var outside = new Vector2d(4, 0);
+
+        //when && then
+        assertFalse(grid.contains(outside));
+        assertEquals(0, grid.sizeAt(outside));
+        assertTrue(grid.animalsAt(outside).isEmpty());
+    }
+
+    private Animal createAnimal(Vector2d position, int energy) {
+        return Animal.builder()
+                .position(position)
+                .energy(energy)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package agh.ics.oop.model.map.simulation;
+
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.elements.Animal;
+import agh.ics.oop.model.util.AnimalComparator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CellSelectionTest {
+    private static final Vector2d POSITION = new Vector2d(1, 1);
+
+    private final AnimalComparator comparator = new AnimalComparator();
+    private final CellSelection sut = new CellSelection(comparator);
+    private AnimalGrid grid;
+    private int cell;
+
+    @BeforeEach
+    void setUp() {
+        grid = new AnimalGrid(3, 3);
+        cell = grid.cellIndex(POSITION);
+    }
+
+    @Test
+    void resolveShouldMatchSortingWithTiesInCellOrder() {
+        //given
+        var random = new Random(7);
+        for (int i = 0; i < 50; i++) {
+            grid.add(createAnimal(5 + random.nextInt(4), random.nextInt(3)));
+        }
+        var cellOrder = grid.animalsAt(cell);
+        var expectedStrongest = cellOrder.stream().max(comparator).orElseThrow();
+        var expectedBreeders = cellOrder.stream()
+                .filter(Animal::canMakeChild)
+                .sorted(comparator.reversed())
+                .limit(2)
+                .toList();
+
+        //when
+        sut.resolve(grid, cell);
+
+        //then
+        assertSame(expectedStrongest, sut.getStrongest());
+        assertSame(expectedBreeders.getFirst(), sut.getFirstBreeder());
+        assertSame(expectedBreeders.getLast(), sut.getSecondBreeder());
+    }
+
+    @Test
+    void resolveShouldNotFindPairWithSingleBreeder() {
+        //given
+        var breeder = createAnimal(20, 0);
+        var hungry = createAnimal(5, 0);
+        grid.add(breeder);
+        grid.add(hungry);
+
+        //when
+        sut.resolve(grid, cell);
+
+        //then
+        assertSame(breeder, sut.getStrongest());
+        assertSame(breeder, sut.getFirstBreeder());
+        assertFalse(sut.hasBreedingPair());
+    }
+
+    @Test
+    void promoteStrongestShouldMakeFedAnimalBreeder() {
+        //given
+        var strongest = createAnimal(7, 0);
+        var weaker = createAnimal(6, 0);
+        List.of(weaker, strongest).forEach(grid::add);
+        sut.resolve(grid, cell);
+
+        //when
+        strongest.eat(() -> 5);
+        sut.promoteStrongest();
+
+        //then
+        assertSame(strongest, sut.getFirstBreeder());
+        assertFalse(sut.hasBreedingPair());
+    }
+
+    @Test
+    void resolveBreedersShouldDropStrongestThatGotWeaker() {
+        //given
+        var strongest = createAnimal(12, 0);
+        var breeder1 = createAnimal(10, 0);
+        var breeder2 = createAnimal(9, 0);
+        List.of(strongest, breeder1, breeder2).forEach(grid::add);
+        sut.resolve(grid, cell);
+
+        //when
+        strongest.eat(() -> -5);
+        sut.resolveBreeders(grid, cell);
+
+        //then
+        assertSame(breeder1, sut.getFirstBreeder());
+        assertSame(breeder2, sut.getSecondBreeder());
+    }
+
+    private static Animal createAnimal(int energy, int startDay) {
+        return Animal.builder()
+                .energy(energy)
+                .position(POSITION)
+                .wellFedEnergy(8)
+                .startDay(startDay)
+                .build();
+    }
+}
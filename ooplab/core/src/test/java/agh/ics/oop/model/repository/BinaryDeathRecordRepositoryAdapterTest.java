@@ -0,0 +1,101 @@
+package agh.ics.oop.model.repository;
+
+import agh.ics.oop.model.statistics.DeathRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryDeathRecordRepositoryAdapterTest {
+    private static final String TEST_PATH = "src/test/resources/deaths";
+
+    private BinaryDeathRecordRepositoryAdapter sut;
+    private final DeathRecord firstRecord = new DeathRecord(1, 1, 10, 2, 5, 42L);
+    private final DeathRecord secondRecord = new DeathRecord(7, 3, 4, 0, 0, -1L);
+
+    @BeforeEach
+    void setUp() {
+        sut = new BinaryDeathRecordRepositoryAdapter(TEST_PATH);
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            sut.close();
+            DirectoryRemover.deleteTestDirectory(TEST_PATH);
+        } catch (IOException e) {
+            fail("Cannot close test writer, e=" + e.getMessage());
+            throw new RuntimeException();
+        }
+    }
+
+    @Test
+    void shouldAppendFixedSizeRecords() throws IOException {
+        // given
+        var mapUuid = UUID.randomUUID().toString();
+
+        // when
+        sut.save(firstRecord, mapUuid);
+        sut.save(secondRecord, mapUuid);
+        sut.close();
+
+        // then
+        var file = new File(TEST_PATH, mapUuid + ".deaths");
+        assertTrue(file.exists());
+        assertEquals(2 * 28, file.length());
+    }
+
+    @Test
+    void shouldLoadSavedRecords() throws IOException {
+        // given
+        var mapUuid = UUID.randomUUID().toString();
+        sut.save(firstRecord, mapUuid);
+        sut.save(secondRecord, mapUuid);
+        sut.close();
+
+        // when
+        var records = sut.load(mapUuid);
+
+        // then
+        assertEquals(List.of(firstRecord, secondRecord), records);
+    }
+
+    @Test
+    void shouldSkipTruncatedLastRecord() throws IOException {
+        // given
+        var mapUuid = UUID.randomUUID().toString();
+        sut.save(firstRecord, mapUuid);
+        sut.save(secondRecord, mapUuid);
+        sut.close();
+        try (var output = new FileOutputStream(new File(TEST_PATH, mapUuid + ".deaths"), true)) {
+            output.write(new byte[10]);
+        }
+
+        // when
+        var records = sut.load(mapUuid);
+
+        // then
+        assertEquals(List.of(firstRecord, secondRecord), records);
+    }
+
+    @Test
+    void shouldDropRecordsSavedAfterClose() throws IOException {
+        // given
+        var mapUuid = UUID.randomUUID().toString();
+        sut.save(firstRecord, mapUuid);
+        sut.close();
+
+        // when
+        sut.save(secondRecord, mapUuid);
+
+        // then
+        assertEquals(List.of(firstRecord), sut.load(mapUuid));
+    }
+}
@@ -0,0 +1,179 @@
+package agh.ics.oop.model.snapshot;
+
+import agh.ics.oop.SimulationContext;
+import agh.ics.oop.TestConfigurationHelper;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.map.fire.FireEarth;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldSnapshotTest {
+
+    @Test
+    void snapshotShouldMatchWorldAfterDay() {
+        //given
+        var context = new SimulationContext(TestConfigurationHelper.createFireConfiguration());
+        for (int day = 0; day < 20; day++) {
+            context.handleDayEnds();
+        }
+        var map = (FireEarth) context.getWorldMap();
+
+        //when
+        var snapshot = context.getSnapshot();
+
+        //then
+        assertEquals(20, snapshot.getDay());
+        assertEquals(20, snapshot.getStatistics().getCurrentDay());
+        assertEquals(map.getAnimals().size(), snapshot.getAnimalCount());
+        for (int i = 0; i < snapshot.getAnimalCount(); i++) {
+            var animal = snapshot.getAnimal(i);
+            assertEquals(animal.getPosition(), snapshot.getAnimalPosition(i));
+            assertEquals(animal.getEnergy(), snapshot.getAnimalEnergy(i));
+        }
+        assertEquals(snapshot.getStatistics().getPlantCount(), snapshot.getPlantPositions().size());
+        snapshot.getPlantPositions().forEach(position -> assertTrue(map.isPlantAtPosition(position)));
+        snapshot.getFirePositions().forEach(position -> assertTrue(map.isFireAtPosition(position)));
+    }
+
+    @Test
+    void publishedSnapshotShouldNotChangeWithNextDays() {
+        //given
+        var context = new SimulationContext(TestConfigurationHelper.createFireConfiguration());
+        context.handleDayEnds();
+        var snapshot = context.getSnapshot();
+        var energies = new int[snapshot.getAnimalCount()];
+        for (int i = 0; i < energies.length; i++) {
+            energies[i] = snapshot.getAnimalEnergy(i);
+        }
+        var plants = snapshot.getPlantPositions();
+        var animalCount = snapshot.getStatistics().getAnimalCount();
+
+        //when
+        for (int day = 0; day < 5; day++) {
+            context.handleDayEnds();
+        }
+
+        //then
+        assertEquals(6, context.getSnapshot().getDay());
+        assertEquals(1, snapshot.getDay());
+        for (int i = 0; i < energies.length; i++) {
+            assertEquals(energies[i], snapshot.getAnimalEnergy(i));
+        }
+        assertEquals(plants, snapshot.getPlantPositions());
+        assertEquals(animalCount, snapshot.getStatistics().getAnimalCount());
+    }
+
+    @Test
+    void snapshotShouldCarryCellsChangedDuringItsDay() {
+        //given
+        var context = new SimulationContext(TestConfigurationHelper.createFireConfiguration());
+        var before = context.getSnapshot();
+
+        //when
+        context.handleDayEnds();
+
+        //then
+        var after = context.getSnapshot();
+        for (int i = 0; i < after.getAnimalCount(); i++) {
+            assertTrue(after.getChangedCells().contains(after.getAnimalPosition(i)));
+        }
+        for (int i = 0; i < before.getAnimalCount(); i++) {
+            assertTrue(after.getChangedCells().contains(before.getAnimalPosition(i)));
+        }
+    }
+
+    @Test
+    void trackedAnimalDetailsShouldBeIncluded() {
+        //given
+        var context = new SimulationContext(TestConfigurationHelper.createFireConfiguration());
+        var animal = context.getSnapshot().getAnimal(0);
+
+        //when
+        context.setTrackedAnimal(animal);
+        context.handleDayEnds();
+
+        //then
+        var details = context.getSnapshot().getTrackedAnimal();
+        assertSame(animal, details.animal());
+        assertEquals(animal.getEnergy(), details.energy());
+        assertEquals(animal.getGenome().getGens(), details.genome());
+    }
+
+    @Test
+    void refreshedSnapshotShouldIncludeNewlyTrackedAnimalWithoutNewDay() {
+        //given
+        var context = new SimulationContext(TestConfigurationHelper.createFireConfiguration());
+        var published = new ArrayList<WorldSnapshot>();
+        context.handleDayEnds();
+        context.addSnapshotPublishedListener(published::add);
+        var animal = context.getSnapshot().getAnimal(0);
+
+        //when
+        context.setTrackedAnimal(animal);
+        var snapshot = context.refreshSnapshot();
+
+        //then
+        assertEquals(1, snapshot.getDay());
+        assertSame(animal, snapshot.getTrackedAnimal().animal());
+        assertEquals(animal.getEnergy(), snapshot.getTrackedAnimal().energy());
+        assertSame(snapshot, context.getSnapshot());
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    void cellIndexShouldFindAnimalsOfEveryCell() {
+        //given
+        var context = new SimulationContext(TestConfigurationHelper.createFireConfiguration());
+        for (int day = 0; day < 10; day++) {
+            context.handleDayEnds();
+        }
+        var snapshot = context.getSnapshot();
+        var map = (FireEarth) context.getWorldMap();
+        var expectedCounts = new HashMap<Vector2d, Integer>();
+        map.getAnimals().forEach(animal -> expectedCounts.merge(animal.getPosition(), 1, Integer::sum));
+
+        //when
+        var counts = new HashMap<Vector2d, Integer>();
+        var positions = new HashMap<Integer, Vector2d>();
+        for (var position : expectedCounts.keySet()) {
+            var first = snapshot.firstAnimalIndexAt(position);
+            counts.put(position, snapshot.animalCountAt(position));
+            for (int i = first; i < first + snapshot.animalCountAt(position); i++) {
+                positions.put(i, position);
+            }
+        }
+
+        //then
+        assertEquals(expectedCounts, counts);
+        assertEquals(snapshot.getAnimalCount(), positions.size());
+        positions.forEach((index, position) -> assertEquals(position, snapshot.getAnimalPosition(index)));
+        assertEquals(0, snapshot.animalCountAt(new Vector2d(-1, -1)));
+    }
+
+    @Test
+    void cellVisitorsShouldMatchPositions() {
+        //given
+        var context = new SimulationContext(TestConfigurationHelper.createFireConfiguration());
+        for (int day = 0; day < 10; day++) {
+            context.handleDayEnds();
+        }
+        var snapshot = context.getSnapshot();
+        var leftBottom = snapshot.getBounds().leftBottomCorner();
+
+        //when
+        var plants = new ArrayList<Vector2d>();
+        snapshot.forEachPlantCell((column, row) -> plants.add(new Vector2d(leftBottom.getX() + column, leftBottom.getY() + row)));
+
+        //then
+        assertEquals(snapshot.getPlantPositions(), plants);
+        for (int i = 0; i < snapshot.getAnimalCount(); i++) {
+            var position = snapshot.getAnimalPosition(i);
+            assertEquals(position.getX() - leftBottom.getX(), snapshot.getAnimalColumn(i));
+            assertEquals(position.getY() - leftBottom.getY(), snapshot.getAnimalRow(i));
+        }
+    }
+}
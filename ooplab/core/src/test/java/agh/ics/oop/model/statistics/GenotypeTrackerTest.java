@@ -0,0 +1,78 @@
+package agh.ics.oop.model.statistics;
+
+import agh.ics.oop.model.elements.Gen;
+import agh.ics.oop.model.elements.Genome;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenotypeTrackerTest {
+    private final GenotypeTracker tracker = new GenotypeTracker();
+    private final Genome genomeA = new Genome(List.of(new Gen(0), new Gen(1), new Gen(2)));
+    private final Genome genomeACopy = new Genome(List.of(new Gen(0), new Gen(1), new Gen(2)));
+    private final Genome genomeB = new Genome(List.of(new Gen(7), new Gen(6), new Gen(5)));
+
+    @Test
+    void equalGenomesShouldHaveEqualFingerprints() {
+        //when && then
+        assertEquals(genomeA.getFingerprint(), genomeACopy.getFingerprint());
+        assertNotEquals(genomeA.getFingerprint(), genomeB.getFingerprint());
+    }
+
+    @Test
+    void emptyTrackerShouldHaveNoMostPopularGenome() {
+        //when && then
+        assertTrue(tracker.getMostPopularGenome().isEmpty());
+        assertEquals(0, tracker.getMostPopularCount());
+    }
+
+    @Test
+    void mostPopularGenomeShouldFollowAdditions() {
+        //given
+        tracker.add(genomeB);
+        tracker.add(genomeA);
+
+        //when
+        tracker.add(genomeACopy);
+
+        //then
+        assertEquals(2, tracker.getGenotypeCount());
+        assertEquals(2, tracker.getMostPopularCount());
+        assertEquals(genomeA.getFingerprint(), tracker.getMostPopularGenome().orElseThrow().getFingerprint());
+    }
+
+    @Test
+    void mostPopularGenomeShouldFollowRemovals() {
+        //given
+        tracker.add(genomeA);
+        tracker.add(genomeACopy);
+        tracker.add(genomeB);
+
+        //when
+        tracker.remove(genomeA);
+        tracker.remove(genomeACopy);
+
+        //then
+        assertEquals(1, tracker.getGenotypeCount());
+        assertEquals(1, tracker.getMostPopularCount());
+        assertEquals(genomeB.getFingerprint(), tracker.getMostPopularGenome().orElseThrow().getFingerprint());
+
+        tracker.remove(genomeB);
+        assertTrue(tracker.getMostPopularGenome().isEmpty());
+    }
+
+    @Test
+    void removingUnknownGenomeShouldDoNothing() {
+        //given
+        tracker.add(genomeA);
+
+        //when
+        tracker.remove(genomeB);
+
+        //then
+        assertEquals(1, tracker.getGenotypeCount());
+        assertEquals(1, tracker.getMostPopularCount());
+    }
+}
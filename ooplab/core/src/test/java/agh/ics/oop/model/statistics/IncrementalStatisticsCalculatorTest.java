@@ -0,0 +1,51 @@
+package agh.ics.oop.model.statistics;
+
+import agh.ics.oop.SimulationContext;
+import agh.ics.oop.TestConfigurationHelper;
+import agh.ics.oop.model.configuration.AnimalStorageVariant;
+import agh.ics.oop.model.configuration.DayStepVariant;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IncrementalStatisticsCalculatorTest {
+    private static final int DAYS_COUNT = 300;
+
+    @ParameterizedTest
+    @EnumSource(AnimalStorageVariant.class)
+    void incrementalStatisticsShouldMatchFullScanEveryDay(AnimalStorageVariant animalStorage) {
+        // given
+        var simulationContext = new SimulationContext(TestConfigurationHelper.createFireConfiguration(animalStorage));
+
+        // when && then
+        assertMatchesFullScan(simulationContext);
+    }
+
+    @ParameterizedTest
+    @EnumSource(AnimalStorageVariant.class)
+    void incrementalStatisticsShouldMatchFullScanWithParallelDayStep(AnimalStorageVariant animalStorage) {
+        // given
+        var simulationContext = new SimulationContext(
+                TestConfigurationHelper.createFireConfiguration(animalStorage, DayStepVariant.PARALLEL));
+
+        // when && then
+        assertMatchesFullScan(simulationContext);
+    }
+
+    private static void assertMatchesFullScan(SimulationContext simulationContext) {
+        var fullScanCalculator = new SimulationStatisticsCalculator(simulationContext);
+
+        for (int day = 1; day <= DAYS_COUNT; day++) {
+            simulationContext.handleDayEnds();
+
+            var statistics = simulationContext.getStatistics();
+            assertEquals(fullScanCalculator.getAnimalCount(), statistics.getAnimalCount(), "animals, day " + day);
+            assertEquals(fullScanCalculator.getPlantCount(), statistics.getPlantCount(), "plants, day " + day);
+            assertEquals(fullScanCalculator.getEmptyFieldsCount(), statistics.getFreeFieldsCount(), "free fields, day " + day);
+            assertEquals(fullScanCalculator.getAverageAnimalEnergy().orElse(0.0), statistics.getAverageEnergy(), 0.0001, "energy, day " + day);
+            assertEquals(fullScanCalculator.getAverageAnimalCountOfChildren().orElse(0.0), statistics.getAverageChildren(), 0.0001, "children, day " + day);
+            assertEquals(fullScanCalculator.getAverageDeadAnimalTimeLife().orElse(0.0), statistics.getAverageLifespan(), 0.0001, "lifespan, day " + day);
+        }
+    }
+}
@@ -147,12 +147,10 @@ class SimulationStatisticsCalculatorTest {
 
         SimulationContext mockSimulationContext = Mockito.mock(SimulationContext.class);
         when(mockSimulationContext.getAliveAnimals()).thenReturn(Set.of(animal1, animal2, animal3, animal4));
-        when(mockSimulationContext.getDeadAnimals()).thenReturn(Set.of(animal5));
         var simulationStatistics = new SimulationStatisticsCalculator(mockSimulationContext);
 
         SimulationContext mockSimulationContext2 = Mockito.mock(SimulationContext.class);
         when(mockSimulationContext2.getAliveAnimals()).thenReturn(Set.of());
-        when(mockSimulationContext2.getDeadAnimals()).thenReturn(Set.of(animal5));
         var simulationStatistics2 = new SimulationStatisticsCalculator(mockSimulationContext2);
 
         // when
@@ -222,12 +220,10 @@ class SimulationStatisticsCalculatorTest {
 
         SimulationContext mockSimulationContext = Mockito.mock(SimulationContext.class);
         when(mockSimulationContext.getAliveAnimals()).thenReturn(Set.of(animal1, animal2, animal3, animal4));
-        when(mockSimulationContext.getDeadAnimals()).thenReturn(Set.of(animal5, animal6));
         var simulationStatistics = new SimulationStatisticsCalculator(mockSimulationContext);
 
         SimulationContext mockSimulationContext2 = Mockito.mock(SimulationContext.class);
         when(mockSimulationContext2.getAliveAnimals()).thenReturn(Set.of());
-        when(mockSimulationContext2.getDeadAnimals()).thenReturn(Set.of(animal5));
         var simulationStatistics2 = new SimulationStatisticsCalculator(mockSimulationContext2);
 
         // when
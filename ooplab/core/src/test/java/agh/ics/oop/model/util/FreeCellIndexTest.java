@@ -0,0 +1,72 @@
+package agh.ics.oop.model.util;
+
+import agh.ics.oop.model.Boundary;
+import agh.ics.oop.model.Vector2d;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FreeCellIndexTest {
+    private final Boundary preferredArea = new Boundary(new Vector2d(0, 2), new Vector2d(4, 2));
+
+    @Test
+    void markingCellsShouldUpdateFreeCount() {
+        //given
+        var freeCells = new FreeCellIndex(5, 5, preferredArea);
+
+        //when
+        freeCells.markTaken(new Vector2d(1, 1));
+        freeCells.markTaken(new Vector2d(1, 1));
+        freeCells.markTaken(new Vector2d(7, 7));
+        freeCells.markTaken(new Vector2d(2, 2));
+        freeCells.markFree(new Vector2d(2, 2));
+
+        //then
+        assertEquals(24, freeCells.getFreeCount());
+        assertFalse(freeCells.isFree(new Vector2d(1, 1)));
+        assertTrue(freeCells.isFree(new Vector2d(2, 2)));
+    }
+
+    @Test
+    void takeRandomShouldReturnEveryFreeCellOnce() {
+        //given
+        var freeCells = new FreeCellIndex(5, 5, preferredArea);
+        freeCells.markTaken(new Vector2d(0, 0));
+        var random = new Random(7);
+        var taken = new HashSet<Vector2d>();
+
+        //when
+        var position = freeCells.takeRandom(random);
+        while (position.isPresent()) {
+            assertTrue(taken.add(position.get()));
+            position = freeCells.takeRandom(random);
+        }
+
+        //then
+        assertEquals(24, taken.size());
+        assertFalse(taken.contains(new Vector2d(0, 0)));
+        assertEquals(0, freeCells.getFreeCount());
+    }
+
+    @Test
+    void takeRandomShouldPreferPreferredArea() {
+        //given
+        var freeCells = new FreeCellIndex(100, 100, new Boundary(new Vector2d(0, 40), new Vector2d(99, 59)));
+        var random = new Random(11);
+        var preferredCount = 0;
+
+        //when
+        for (int i = 0; i < 1000; i++) {
+            var position = freeCells.takeRandom(random).orElseThrow();
+            if (position.getY() >= 40 && position.getY() <= 59) {
+                preferredCount++;
+            }
+        }
+
+        //then
+        assertTrue(preferredCount > 700 && preferredCount < 900);
+    }
+}
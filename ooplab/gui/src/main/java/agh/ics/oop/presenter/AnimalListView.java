@@ -1,6 +1,8 @@
 package agh.ics.oop.presenter;
 
+import agh.ics.oop.model.Vector2d;
 import agh.ics.oop.model.elements.Animal;
+import agh.ics.oop.model.snapshot.WorldSnapshot;
 import javafx.fxml.FXML;
 import javafx.scene.Cursor;
 import javafx.scene.control.Button;
@@ -8,12 +10,12 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import lombok.Setter;
 
-import java.util.Set;
+import java.util.ArrayList;
 
 public class AnimalListView {
 
     @FXML
-    private ListView<Animal> animalCells;
+    private ListView<AnimalEntry> animalCells;
 
     @FXML
     private Button cancelButton;
@@ -25,7 +27,7 @@ public class AnimalListView {
     public void initialize() {
         animalCells.setCellFactory(param -> new ListCell<>() {
             @Override
-            protected void updateItem(Animal item, boolean empty) {
+            protected void updateItem(AnimalEntry item, boolean empty) {
                 super.updateItem(item, empty);
                 setText(empty || item == null ? null : item.toString());
 
@@ -41,18 +43,32 @@ public class AnimalListView {
         cancelButton.setOnAction(event -> presenter.onCancelTrackingAnimal());
     }
 
-    public void setAnimals(Set<Animal> animals) {
+    /**
+     * Lists the animals standing at the given position, described by the snapshot rather than the live animals.
+     */
+    public void setAnimals(WorldSnapshot snapshot, Vector2d position) {
         if (animalCells != null) {
-            animalCells.getItems().setAll(animals);
+            var entries = new ArrayList<AnimalEntry>();
+            for (var index : snapshot.animalIndicesAt(position)) {
+                entries.add(new AnimalEntry(snapshot.getAnimal(index), snapshot.getAnimalEnergy(index)));
+            }
+            animalCells.getItems().setAll(entries);
         }
     }
 
     private void onAnimalSelected() {
-        Animal selectedAnimal = animalCells.getSelectionModel().getSelectedItem();
-        if (selectedAnimal != null) {
-            presenter.selectAnimal(selectedAnimal);
+        AnimalEntry selectedEntry = animalCells.getSelectionModel().getSelectedItem();
+        if (selectedEntry != null) {
+            presenter.selectAnimal(selectedEntry.animal());
             presenter.displayAnimalStatistics();
         }
     }
 
+    private record AnimalEntry(Animal animal, int energy) {
+        @Override
+        public String toString() {
+            return String.format("Animal - Energy: %d", energy);
+        }
+    }
+
 }
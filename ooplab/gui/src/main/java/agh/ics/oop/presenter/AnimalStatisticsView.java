@@ -1,6 +1,6 @@
 package agh.ics.oop.presenter;
 
-import agh.ics.oop.model.elements.Animal;
+import agh.ics.oop.model.snapshot.AnimalDetails;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import lombok.Setter;
@@ -26,26 +26,22 @@ public class AnimalStatisticsView {
     @Setter
     private OnCancelTrackingHandler onCancelTrackingHandler;
 
-    @Setter
-    private Animal animal;
-
-    public void updateLabels(int currentDay) {
+    public void updateLabels(AnimalDetails animal, int currentDay) {
         if (animal == null) {
             return;
         }
 
-        genomeLabel.setText(animal.getGenome().getGens().toString());
-        activeGeneLabel.setText(animal.getActivatedGen().toString());
-        energyLabel.setText(String.format("%d", animal.getEnergy()));
-        eatenPlantsLabel.setText(String.format("%d", animal.getCountOfEatenPlants()));
-        childrenLabel.setText(String.format("%d", animal.getCountOfChildren()));
-        descendantsLabel.setText(String.format("%d", animal.getCountOfDescendants()));
-        if (animal.isDead()) {
+        genomeLabel.setText(animal.genome().toString());
+        activeGeneLabel.setText(animal.activeGene().toString());
+        energyLabel.setText(String.format("%d", animal.energy()));
+        eatenPlantsLabel.setText(String.format("%d", animal.eatenPlants()));
+        childrenLabel.setText(String.format("%d", animal.children()));
+        descendantsLabel.setText(String.format("%d", animal.descendants()));
+        if (animal.dead()) {
             lifespanLabel.setText("Animal is dead");
-            deathDayLabel.setText(String.format("%d", animal.getEndDay()));
-            animal = null;
+            deathDayLabel.setText(String.format("%d", animal.endDay()));
         } else {
-            lifespanLabel.setText(String.format("%d", currentDay - animal.getStartDay() + 1));
+            lifespanLabel.setText(String.format("%d", currentDay - animal.startDay() + 1));
             deathDayLabel.setText("Animal is alive");
         }
     }
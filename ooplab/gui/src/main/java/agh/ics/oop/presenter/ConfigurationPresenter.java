@@ -76,6 +76,8 @@ public class ConfigurationPresenter {
     private TextField startPlantCountInput;
     @FXML
     private CheckBox saveStatisticsToggle;
+    @FXML
+    private CheckBox saveDeathRecordsToggle;
 
     private WorldMapVariant mapVariant;
     private PlantVariant plantVariant;
@@ -116,6 +118,7 @@ public class ConfigurationPresenter {
                 .daysCount(Integer.parseInt(daysCountInput.getText()))
                 .startAnimalCount(Integer.parseInt(startAnimalCountInput.getText()))
                 .saveStatisticsCsv(saveStatisticsToggle.isSelected())
+                .saveDeathRecords(saveDeathRecordsToggle.isSelected())
                 .build();
 
         var worldMapConfiguration = WorldMapConfiguration.builder()
@@ -0,0 +1,83 @@
+package agh.ics.oop.presenter;
+
+import agh.ics.oop.listener.SnapshotPublishedListener;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.snapshot.WorldSnapshot;
+import javafx.animation.AnimationTimer;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decouples the simulation from the FX thread. The simulation only hands over the snapshot of every ended day, and
+ * once per pulse the latest one is rendered together with the cells changed since the previous frame, so days ending
+ * faster than the screen refreshes are dropped instead of queueing up. Once a second it reports the simulated days
+ * and rendered frames per second.
+ */
+public class FrameScheduler extends AnimationTimer implements SnapshotPublishedListener {
+    private static final long MEASUREMENT_WINDOW = TimeUnit.SECONDS.toNanos(1);
+
+    private final FrameRenderer frameRenderer;
+    private final RatesListener ratesListener;
+    private WorldSnapshot publishedSnapshot;
+    private Set<Vector2d> pendingCells = new HashSet<>();
+    private WorldSnapshot renderedSnapshot;
+    private long windowStart = -1;
+    private int windowStartDay;
+    private int windowFrames;
+
+    public FrameScheduler(FrameRenderer frameRenderer, RatesListener ratesListener) {
+        this.frameRenderer = frameRenderer;
+        this.ratesListener = ratesListener;
+    }
+
+    /**
+     * Called from the simulation thread after every day.
+     */
+    @Override
+    public synchronized void onSnapshotPublished(WorldSnapshot snapshot) {
+        publishedSnapshot = snapshot;
+        pendingCells.addAll(snapshot.getChangedCells());
+    }
+
+    @Override
+    public void handle(long now) {
+        WorldSnapshot snapshot;
+        Set<Vector2d> changedCells;
+        synchronized (this) {
+            snapshot = publishedSnapshot;
+            changedCells = pendingCells;
+            if (snapshot != renderedSnapshot) {
+                pendingCells = new HashSet<>();
+            }
+        }
+        if (snapshot == null) {
+            return;
+        }
+        if (snapshot != renderedSnapshot) {
+            renderedSnapshot = snapshot;
+            frameRenderer.render(snapshot, changedCells);
+            windowFrames++;
+        }
+
+        if (windowStart < 0) {
+            windowStart = now;
+            windowStartDay = snapshot.getDay();
+        } else if (now - windowStart >= MEASUREMENT_WINDOW) {
+            var seconds = (double) (now - windowStart) / TimeUnit.SECONDS.toNanos(1);
+            ratesListener.onRatesMeasured((snapshot.getDay() - windowStartDay) / seconds, windowFrames / seconds);
+            windowStart = now;
+            windowStartDay = snapshot.getDay();
+            windowFrames = 0;
+        }
+    }
+
+    public interface FrameRenderer {
+        void render(WorldSnapshot snapshot, Set<Vector2d> changedCells);
+    }
+
+    public interface RatesListener {
+        void onRatesMeasured(double daysPerSecond, double framesPerSecond);
+    }
+}
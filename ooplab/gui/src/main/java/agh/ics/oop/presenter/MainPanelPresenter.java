@@ -5,6 +5,7 @@ import agh.ics.oop.SimulationContext;
 import agh.ics.oop.SimulationEngine;
 import agh.ics.oop.model.configuration.Configuration;
 import agh.ics.oop.model.configuration.ConfigurationValidator;
+import agh.ics.oop.model.configuration.TickPolicy;
 import agh.ics.oop.model.exceptions.WrongConfigurationParameterException;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -75,6 +76,7 @@ public class MainPanelPresenter {
     private void createSimulation(Configuration configuration, SimulationPresenter presenter) {
         var simulationContext = new SimulationContext(configuration);
         var simulation = new Simulation(simulationContext, configuration.getSimulationConfiguration().getDaysCount());
+        simulation.setTickPolicy(TickPolicy.from(configuration.getSimulationConfiguration()));
         presenter.setConfiguration(configuration);
         presenter.setSimulation(simulation);
         var simulationId = simulationEngine.addSimulation(simulation);
@@ -1,23 +1,24 @@
 package agh.ics.oop.presenter;
 
 import agh.ics.oop.Simulation;
-import agh.ics.oop.listener.MapChangeListener;
 import agh.ics.oop.listener.SimulationFinishedListener;
+import agh.ics.oop.listener.SnapshotPublishedListener;
 import agh.ics.oop.model.Boundary;
 import agh.ics.oop.model.Vector2d;
 import agh.ics.oop.model.configuration.Configuration;
+import agh.ics.oop.model.configuration.TickPolicy;
+import agh.ics.oop.model.configuration.TickPolicyVariant;
 import agh.ics.oop.model.elements.Animal;
-import agh.ics.oop.model.elements.Plant;
-import agh.ics.oop.model.elements.WorldElement;
-import agh.ics.oop.model.event.EventType;
-import agh.ics.oop.model.event.MapChangedEvent;
 import agh.ics.oop.model.exceptions.PresenterHasNoConfigurationException;
-import agh.ics.oop.model.map.WorldMap;
 import agh.ics.oop.model.map.simulation.SimulationWorldMap;
+import agh.ics.oop.model.repository.BinaryDeathRecordRepositoryAdapter;
 import agh.ics.oop.model.repository.CsvStatisticsRepositoryAdapter;
+import agh.ics.oop.model.repository.DeathRecordRepositoryPort;
 import agh.ics.oop.model.repository.StatisticsRepositoryPort;
+import agh.ics.oop.model.snapshot.WorldSnapshot;
+import agh.ics.oop.model.statistics.Statistics;
 import agh.ics.oop.model.util.PlantPreferableAreaCalculator;
-import agh.ics.oop.presenter.components.AnimalComponent;
+import agh.ics.oop.presenter.components.MapCanvas;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -25,24 +26,24 @@ import javafx.scene.Cursor;
 import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.MenuButton;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.TextField;
 import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.*;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
 import lombok.Setter;
 
 import java.io.IOException;
-import java.util.stream.Collectors;
-
-public class SimulationPresenter implements MapChangeListener, SimulationFinishedListener, PositionClickHandler, OnCancelTrackingHandler {
-    private static final int GRID_SIZE = 20;
+import java.util.OptionalLong;
+import java.util.Set;
 
+public class SimulationPresenter implements SnapshotPublishedListener, SimulationFinishedListener, PositionClickHandler, OnCancelTrackingHandler {
     @FXML
     private BorderPane mainBorderPane;
     @FXML
     private Label currentDayLabel;
     @FXML
-    private GridPane mapGrid;
+    private MapCanvas mapCanvas;
     @FXML
     private Button startStopButton;
 
@@ -66,39 +67,51 @@ public class SimulationPresenter implements MapChangeListener, SimulationFinishe
     @FXML
     private Label avgChildrenLabel;
 
-    @Setter
+    @FXML
+    private MenuButton tickPolicyMenuButton;
+    @FXML
+    private MenuItem fixedRateItem;
+    @FXML
+    private MenuItem turboItem;
+    @FXML
+    private MenuItem fastForwardItem;
+    @FXML
+    private TextField daysPerSecondInput;
+    @FXML
+    private TextField fastForwardDaysInput;
+    @FXML
+    private Label ratesLabel;
+
     private Simulation simulation;
     @Setter
     private Configuration configuration;
     private SimulationWorldMap worldMap;
     private StatisticsRepositoryPort statisticsRepository;
+    private DeathRecordRepositoryPort deathRecordRepository;
     private Animal selectedAnimal;
     private AnimalStatisticsView animalStatisticsViewController;
     private AnimalListView animalListViewController;
     private boolean shouldHighlightAnimalsWithMostPopularGenotype = false;
 
     private Boundary preferablePlantArea;
-    private double scaleFactor = 1.0;
     private double initialX;
     private double initialY;
     private boolean isRunning;
     private boolean preferredPlantPositionsVisible = false;
+    private TickPolicyVariant tickPolicyVariant = TickPolicyVariant.FIXED_RATE;
+    private final FrameScheduler frameScheduler = new FrameScheduler(this::renderFrame, this::displayRates);
+    private WorldSnapshot renderedSnapshot;
 
 
     public void drawMap() {
-        var mapBoundary = worldMap.getCurrentBounds();
-        clearGrid();
-        fillGrid(mapBoundary);
-        drawElements();
+        if (renderedSnapshot != null) {
+            drawMap(renderedSnapshot, Set.of());
+        }
     }
 
     @Override
-    public void mapChanged(WorldMap worldMap, MapChangedEvent event) {
-        if (event.getEventType() == EventType.DAY_ENDS) {
-            Platform.runLater(this::drawMap);
-            Platform.runLater(this::updateStatisticsDisplay);
-            saveStatistics();
-        }
+    public void onSnapshotPublished(WorldSnapshot snapshot) {
+        saveStatistics(snapshot.getStatistics());
     }
 
     @Override
@@ -106,6 +119,7 @@ public class SimulationPresenter implements MapChangeListener, SimulationFinishe
         closeRepositoryPort();
         isRunning = false;
         Platform.runLater(() -> {
+            frameScheduler.stop();
             try {
                 FXMLLoader loader = new FXMLLoader();
                 loader.setLocation(getClass().getClassLoader().getResource("simulation_summary_view.fxml"));
@@ -156,12 +170,19 @@ public class SimulationPresenter implements MapChangeListener, SimulationFinishe
         var simulationContext = simulation.getSimulationContext();
 
         worldMap = simulationContext.getWorldMap();
-        simulationContext.addMapChangedListener(this);
+        frameScheduler.onSnapshotPublished(simulationContext.getSnapshot());
+        simulationContext.addSnapshotPublishedListener(frameScheduler);
+        simulationContext.addSnapshotPublishedListener(this);
         simulationContext.addSimulationFinishedListener(this);
 
         preferablePlantArea = PlantPreferableAreaCalculator.getPreferableArea(worldMap.getCurrentBounds());
         statisticsRepository = new CsvStatisticsRepositoryAdapter();
+        if (configuration.getSimulationConfiguration().isSaveDeathRecords()) {
+            deathRecordRepository = new BinaryDeathRecordRepositoryAdapter();
+            simulationContext.setDeathRecordRepository(deathRecordRepository);
+        }
 
+        frameScheduler.start();
         simulation.resume();
 
         startStopButton.setText("Stop");
@@ -181,10 +202,7 @@ public class SimulationPresenter implements MapChangeListener, SimulationFinishe
                 Parent animalsView = loader.load();
                 animalListViewController = loader.getController();
                 animalListViewController.setPresenter(this);
-                animalListViewController.setAnimals(worldMap.getAnimals()
-                        .stream()
-                        .filter(animal -> animal.getPosition().equals(position))
-                        .collect(Collectors.toSet()));
+                animalListViewController.setAnimals(simulation.getSimulationContext().getSnapshot(), position);
                 mainBorderPane.setRight(animalsView);
             } catch (IOException e) {
                 System.out.println("Couldn't load animal statistics view, e=" + e.getMessage());
@@ -204,19 +222,51 @@ public class SimulationPresenter implements MapChangeListener, SimulationFinishe
 
     public void selectAnimal(Animal animal) {
         this.selectedAnimal = animal;
+        simulation.getSimulationContext().setTrackedAnimal(animal);
         Platform.runLater(this::drawMap);
     }
 
     public void endSimulation() {
+        frameScheduler.stop();
         if (simulation != null) {
             simulation.end();
+            // flushes what was buffered when the window is closed before the last day
+            closeRepositoryPort();
         }
     }
 
     @FXML
     public void initialize() {
+        mapCanvas.setPositionClickHandler(this);
         setGridOnScrollEvent();
         onGridDrag();
+        fixedRateItem.setOnAction(event -> chooseTickPolicy(TickPolicyVariant.FIXED_RATE));
+        turboItem.setOnAction(event -> chooseTickPolicy(TickPolicyVariant.TURBO));
+        fastForwardItem.setOnAction(event -> chooseTickPolicy(TickPolicyVariant.FAST_FORWARD));
+    }
+
+    public void setSimulation(Simulation simulation) {
+        this.simulation = simulation;
+        var tickPolicy = simulation.getTickPolicy();
+        chooseTickPolicy(tickPolicy.variant());
+        daysPerSecondInput.setText(String.valueOf((int) tickPolicy.daysPerSecond()));
+        if (tickPolicy.fastForwardDays() > 0) {
+            fastForwardDaysInput.setText(String.valueOf(tickPolicy.fastForwardDays()));
+        }
+    }
+
+    @FXML
+    public void onApplyTickPolicyClicked() {
+        if (simulation == null) {
+            return;
+        }
+        var daysPerSecond = parsePositive(daysPerSecondInput.getText(), TickPolicy.DEFAULT_DAYS_PER_SECOND);
+        var tickPolicy = switch (tickPolicyVariant) {
+            case FIXED_RATE -> TickPolicy.fixedRate(daysPerSecond);
+            case TURBO -> TickPolicy.turbo();
+            case FAST_FORWARD -> TickPolicy.fastForward((int) parsePositive(fastForwardDaysInput.getText(), 0), daysPerSecond);
+        };
+        simulation.setTickPolicy(tickPolicy);
     }
 
     void displayAnimalStatistics() {
@@ -229,9 +279,9 @@ public class SimulationPresenter implements MapChangeListener, SimulationFinishe
 
                 animalStatisticsViewController = loader.getController();
                 animalStatisticsViewController.setOnCancelTrackingHandler(this);
-                animalStatisticsViewController.setAnimal(selectedAnimal);
-                animalStatisticsViewController.updateLabels(simulation.getSimulationContext().getStatistics().getCurrentDay());
                 mainBorderPane.setRight(animalsView);
+                // the labels are filled from the next rendered snapshot, never from the live animal
+                frameScheduler.onSnapshotPublished(simulation.getSimulationContext().refreshSnapshot());
             } catch (IOException e) {
                 System.out.println("Couldn't load animal statistics view, e=" + e.getMessage());
             }
@@ -256,74 +306,44 @@ public class SimulationPresenter implements MapChangeListener, SimulationFinishe
         }
     }
 
-    private void clearGrid() {
-        if (mapGrid.getChildren() != null) {
-            mapGrid.getChildren().retainAll(mapGrid.getChildren().getFirst());
-        }
-
-        mapGrid.getColumnConstraints().clear();
-        mapGrid.getRowConstraints().clear();
+    private void chooseTickPolicy(TickPolicyVariant variant) {
+        tickPolicyVariant = variant;
+        tickPolicyMenuButton.setText(variant.getDisplayText());
+        daysPerSecondInput.setDisable(variant == TickPolicyVariant.TURBO);
+        fastForwardDaysInput.setDisable(variant != TickPolicyVariant.FAST_FORWARD);
     }
 
-    private void fillGrid(Boundary mapBoundary) {
-        int width = calculateGridWidth(mapBoundary.leftBottomCorner(), mapBoundary.rightTopCorner());
-        int height = calculateGridHeight(mapBoundary.leftBottomCorner(), mapBoundary.rightTopCorner());
-
-        for (int i = 0; i <= width; i++) {
-            mapGrid.getColumnConstraints().add(new ColumnConstraints(GRID_SIZE));
-        }
-
-        for (int i = 0; i <= height; i++) {
-            mapGrid.getRowConstraints().add(new RowConstraints(GRID_SIZE));
+    private static double parsePositive(String text, double defaultValue) {
+        try {
+            var value = Double.parseDouble(text);
+            return value > 0 ? value : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
         }
     }
 
-    private void highlightPlantPreferableArea() {
-        if (!preferredPlantPositionsVisible || isRunning) {
-            return;
-        }
-
-        for (int x = preferablePlantArea.leftBottomCorner().getX(); x <= preferablePlantArea.rightTopCorner().getX(); x++) {
-            for (int y = preferablePlantArea.leftBottomCorner().getY(); y <= preferablePlantArea.rightTopCorner().getY(); y++) {
-                mapGrid.add(createRectangle(Color.valueOf("F3FAC4FF").brighter()), x, y);
-            }
-        }
-
+    private void renderFrame(WorldSnapshot snapshot, Set<Vector2d> changedCells) {
+        renderedSnapshot = snapshot;
+        drawMap(snapshot, changedCells);
+        updateStatisticsDisplay(snapshot);
     }
 
-    private void drawElements() {
-        highlightPlantPreferableArea();
-        worldMap.getElements().stream()
-                .collect(Collectors.groupingBy(WorldElement::getPosition))
-                .forEach((position, elements) -> {
-                    int x = position.getX();
-                    int y = position.getY();
-
-                    StackPane positionContainer = new StackPane();
-
-                    for (WorldElement element : elements) {
-                        if (element instanceof Plant) {
-                            positionContainer.getChildren().add(createRectangle(Color.LIGHTGREEN));
-                        } else if (element instanceof Animal animal) {
-                            positionContainer.getChildren().add(createAnimalComponent(animal));
-                        } else {
-                            positionContainer.getChildren().add(createRectangle(Color.RED));
-                        }
-                    }
-                    mapGrid.add(positionContainer, x, y);
-                });
+    private void drawMap(WorldSnapshot snapshot, Set<Vector2d> changedCells) {
+        var mostPopularGenotypeFingerprint = snapshot.getStatistics().getMostPopularGenotypeFingerprint();
+        mapCanvas.setSelectedAnimal(selectedAnimal);
+        mapCanvas.setHighlightedGenotype(shouldHighlightAnimalsWithMostPopularGenotype
+                ? mostPopularGenotypeFingerprint
+                : OptionalLong.empty());
+        mapCanvas.setPreferredArea(preferredPlantPositionsVisible && !isRunning ? preferablePlantArea : null);
+        mapCanvas.draw(snapshot, changedCells);
     }
 
-    private int calculateGridWidth(Vector2d leftBot, Vector2d rightTop) {
-        return Math.abs(leftBot.subtract(rightTop).getX());
+    private void displayRates(double daysPerSecond, double framesPerSecond) {
+        ratesLabel.setText(String.format("%.0f days/s | %.0f fps", daysPerSecond, framesPerSecond));
     }
 
-    private int calculateGridHeight(Vector2d leftBot, Vector2d rightTop) {
-        return Math.abs(leftBot.subtract(rightTop).getY());
-    }
-
-    private void updateStatisticsDisplay() {
-        var statistics = simulation.getSimulationContext().getStatistics();
+    private void updateStatisticsDisplay(WorldSnapshot snapshot) {
+        var statistics = snapshot.getStatistics();
         animalCountLabel.setText(String.valueOf(statistics.getAnimalCount()));
         plantCountLabel.setText(String.format("%d", statistics.getPlantCount()));
         freeFieldsLabel.setText(String.format("%d", statistics.getFreeFieldsCount()));
@@ -338,28 +358,36 @@ public class SimulationPresenter implements MapChangeListener, SimulationFinishe
         avgChildrenLabel.setText(String.format("%.2f", statistics.getAverageChildren()));
         currentDayLabel.setText(String.format("%d", statistics.getCurrentDay()));
         if (animalStatisticsViewController != null) {
-            animalStatisticsViewController.updateLabels(statistics.getCurrentDay());
+            animalStatisticsViewController.updateLabels(snapshot.getTrackedAnimal(), statistics.getCurrentDay());
         }
     }
 
-    private void saveStatistics() {
+    private void saveStatistics(Statistics statistics) {
         if (configuration.getSimulationConfiguration().isSaveStatisticsCsv()) {
-            statisticsRepository.save(simulation.getSimulationContext().getStatistics(), worldMap.getId().toString());
+            statisticsRepository.save(statistics, worldMap.getId().toString());
         }
     }
 
     private void closeRepositoryPort() {
-        if (configuration.getSimulationConfiguration().isSaveStatisticsCsv()) {
+        // the repositories only exist once the simulation was started
+        if (statisticsRepository != null) {
             try {
                 statisticsRepository.close();
             } catch (IOException e) {
                 System.out.println("Error closing statistics repository");
             }
         }
+        if (deathRecordRepository != null) {
+            try {
+                deathRecordRepository.close();
+            } catch (IOException e) {
+                System.out.println("Error closing death record repository");
+            }
+        }
     }
 
     private void setGridOnScrollEvent() {
-        mapGrid.setOnScroll((ScrollEvent event) -> {
+        mapCanvas.setOnScroll((ScrollEvent event) -> {
             double delta = event.getDeltaY();
             double zoomFactor = 1.1;
 
@@ -367,50 +395,30 @@ public class SimulationPresenter implements MapChangeListener, SimulationFinishe
                 zoomFactor = 0.9;
             }
 
-            scaleFactor *= zoomFactor;
-
-            mapGrid.setScaleX(scaleFactor);
-            mapGrid.setScaleY(scaleFactor);
+            mapCanvas.zoom(zoomFactor, event.getX(), event.getY());
         });
     }
 
     private void onGridDrag() {
-        mapGrid.setOnMousePressed(event -> {
+        mapCanvas.setOnMousePressed(event -> {
             initialX = event.getSceneX();
             initialY = event.getSceneY();
-            mapGrid.setCursor(Cursor.CLOSED_HAND);
+            mapCanvas.setCursor(Cursor.CLOSED_HAND);
 
         });
 
-        mapGrid.setOnMouseDragged(event -> {
+        mapCanvas.setOnMouseDragged(event -> {
             double deltaX = event.getSceneX() - initialX;
             double deltaY = event.getSceneY() - initialY;
-            double newTranslateX = mapGrid.getTranslateX() + deltaX;
-            double newTranslateY = mapGrid.getTranslateY() + deltaY;
 
-            mapGrid.setTranslateX(newTranslateX);
-            mapGrid.setTranslateY(newTranslateY);
+            mapCanvas.pan(deltaX, deltaY);
 
             initialX = event.getSceneX();
             initialY = event.getSceneY();
         });
 
-        mapGrid.setOnMouseReleased(event -> mapGrid.setCursor(Cursor.DEFAULT));
+        mapCanvas.setOnMouseReleased(event -> mapCanvas.setCursor(Cursor.DEFAULT));
     }
 
-    private Rectangle createRectangle(Color color) {
-        var rectangle = new Rectangle(GRID_SIZE, GRID_SIZE);
-        rectangle.setFill(color);
-        return rectangle;
-    }
-
-    private AnimalComponent createAnimalComponent(Animal animal) {
-        boolean isSelected = animal.equals(selectedAnimal);
-        boolean isHighlighted = simulation.getSimulationContext()
-                .getStatistics()
-                .getMostPopularGenotype()
-                .equals(animal.getGenome().getGens()) && shouldHighlightAnimalsWithMostPopularGenotype;
-        return new AnimalComponent(animal, isSelected, GRID_SIZE, isHighlighted, this);
-    }
 
 }
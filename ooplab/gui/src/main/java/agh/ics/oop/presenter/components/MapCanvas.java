@@ -0,0 +1,594 @@
+package agh.ics.oop.presenter.components;
+
+import agh.ics.oop.model.Boundary;
+import agh.ics.oop.model.Vector2d;
+import agh.ics.oop.model.elements.Animal;
+import agh.ics.oop.model.snapshot.WorldSnapshot;
+import agh.ics.oop.presenter.PositionClickHandler;
+import javafx.scene.Cursor;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * Paints world snapshots straight onto a single canvas the size of the visible area, so the cost of a frame depends
+ * on the number of visible cells only. Zooming and panning change how map cells map to pixels, and cells outside of
+ * the viewport are never painted. Between full repaints only the changed cells are painted again. Zoomed out below
+ * {@link #DETAIL_THRESHOLD} pixels per cell, the map is painted as a heat raster of animal density and energy with
+ * one pixel per cell, or per block of cells once a cell is smaller than a pixel. Clicks are mapped back from pixels
+ * to map positions and checked against the last painted snapshot.
+ */
+public class MapCanvas extends Canvas {
+    public static final int DEFAULT_CELL_SIZE = 20;
+    public static final double DETAIL_THRESHOLD = 4;
+
+    private static final double GRID_THRESHOLD = 8;
+    private static final double MIN_CELL_SIZE = 0.05;
+    private static final double MAX_CELL_SIZE = 80;
+    private static final Color OUTSIDE_COLOR = Color.valueOf("#f4f4f4");
+    private static final Color BACKGROUND_COLOR = Color.WHITE;
+    private static final Color GRID_LINE_COLOR = Color.LIGHTGRAY;
+    private static final Color PLANT_COLOR = Color.LIGHTGREEN;
+    private static final Color FIRE_COLOR = Color.RED;
+    private static final Color PREFERRED_AREA_COLOR = Color.valueOf("F3FAC4FF").brighter();
+    private static final Color SELECTED_COLOR = Color.HOTPINK;
+    private static final Color HIGHLIGHTED_COLOR = Color.valueOf("#ff2fbd");
+    private static final int MAX_ENERGY = 100;
+
+    private double cellSize;
+    private double offsetX;
+    private double offsetY;
+    private WorldSnapshot snapshot;
+    private Boundary bounds = new Boundary(new Vector2d(0, 0), new Vector2d(0, 0));
+    private Animal selectedAnimal;
+    private OptionalLong highlightedGenotype = OptionalLong.empty();
+    private Boundary preferredArea;
+    private boolean fullRepaintNeeded = true;
+    private final HeatRaster heatRaster = new HeatRaster();
+    @Setter
+    private PositionClickHandler positionClickHandler;
+
+    public MapCanvas() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    public MapCanvas(double cellSize) {
+        this.cellSize = cellSize;
+        setOnMouseClicked(event -> {
+            if (event.isStillSincePress() && positionClickHandler != null) {
+                positionAt(event.getX(), event.getY())
+                        .filter(this::hasAnimalAt)
+                        .ifPresent(positionClickHandler::onPositionClick);
+            }
+        });
+        setOnMouseMoved(event -> setCursor(positionAt(event.getX(), event.getY())
+                .filter(this::hasAnimalAt)
+                .map(position -> Cursor.HAND)
+                .orElse(Cursor.DEFAULT)));
+    }
+
+    @Override
+    public boolean isResizable() {
+        return true;
+    }
+
+    @Override
+    public double minWidth(double height) {
+        return 0;
+    }
+
+    @Override
+    public double minHeight(double width) {
+        return 0;
+    }
+
+    @Override
+    public double prefWidth(double height) {
+        return getWidth();
+    }
+
+    @Override
+    public double prefHeight(double width) {
+        return getHeight();
+    }
+
+    @Override
+    public double maxWidth(double height) {
+        return Double.MAX_VALUE;
+    }
+
+    @Override
+    public double maxHeight(double width) {
+        return Double.MAX_VALUE;
+    }
+
+    @Override
+    public void resize(double width, double height) {
+        if (width != getWidth() || height != getHeight()) {
+            setWidth(width);
+            setHeight(height);
+            repaint();
+        }
+    }
+
+    public void setSelectedAnimal(Animal selectedAnimal) {
+        fullRepaintNeeded |= !Objects.equals(this.selectedAnimal, selectedAnimal);
+        this.selectedAnimal = selectedAnimal;
+    }
+
+    public void setHighlightedGenotype(OptionalLong highlightedGenotype) {
+        fullRepaintNeeded |= !this.highlightedGenotype.equals(highlightedGenotype);
+        this.highlightedGenotype = highlightedGenotype;
+    }
+
+    public void setPreferredArea(Boundary preferredArea) {
+        fullRepaintNeeded |= !Objects.equals(this.preferredArea, preferredArea);
+        this.preferredArea = preferredArea;
+    }
+
+    /**
+     * Scales the map by the given factor, keeping the map point under the pivot pixel in place.
+     */
+    public void zoom(double factor, double pivotX, double pivotY) {
+        var newCellSize = Math.max(MIN_CELL_SIZE, Math.min(cellSize * factor, MAX_CELL_SIZE));
+        offsetX = pivotX - (pivotX - offsetX) * newCellSize / cellSize;
+        offsetY = pivotY - (pivotY - offsetY) * newCellSize / cellSize;
+        cellSize = newCellSize;
+        repaint();
+    }
+
+    public void pan(double deltaX, double deltaY) {
+        offsetX += deltaX;
+        offsetY += deltaY;
+        repaint();
+    }
+
+    /**
+     * Repaints only the given cells, unless the bounds, the viewport or the drawing options changed since the last
+     * frame, the map is drawn as a heat raster, or most of the visible map changed anyway, in which case the whole
+     * viewport is painted.
+     */
+    public void draw(WorldSnapshot snapshot, Set<Vector2d> changedCells) {
+        this.snapshot = snapshot;
+        if (fullRepaintNeeded || !snapshot.getBounds().equals(bounds) || cellSize < DETAIL_THRESHOLD) {
+            drawAll(snapshot);
+            return;
+        }
+        var viewport = viewport();
+        if (viewport.isEmpty()) {
+            return;
+        }
+        if (changedCells.size() > viewport.get().cellCount() / 2) {
+            drawAll(snapshot);
+            return;
+        }
+
+        var graphics = getGraphicsContext2D();
+        var leftBottom = bounds.leftBottomCorner();
+        var cells = new ArrayList<Vector2d>(changedCells.size());
+        for (var position : changedCells) {
+            var column = position.getX() - leftBottom.getX();
+            var row = position.getY() - leftBottom.getY();
+            if (viewport.get().contains(column, row)) {
+                paintCellBackground(graphics, snapshot, position, column, row);
+                cells.add(position);
+            }
+        }
+        paintAnimalsAt(graphics, snapshot, cells);
+        if (cellSize >= GRID_THRESHOLD) {
+            graphics.setStroke(GRID_LINE_COLOR);
+            graphics.setLineWidth(1);
+            for (var position : cells) {
+                graphics.strokeRect(cellX(position.getX() - leftBottom.getX()) + 0.5,
+                        cellY(position.getY() - leftBottom.getY()) + 0.5, cellSize, cellSize);
+            }
+        }
+    }
+
+    public Optional<Vector2d> positionAt(double x, double y) {
+        var column = (int) Math.floor((x - offsetX) / cellSize);
+        var row = (int) Math.floor((y - offsetY) / cellSize);
+        if (column < 0 || row < 0 || column >= columns() || row >= rows()) {
+            return Optional.empty();
+        }
+        var leftBottom = bounds.leftBottomCorner();
+        return Optional.of(new Vector2d(leftBottom.getX() + column, leftBottom.getY() + row));
+    }
+
+    private void repaint() {
+        fullRepaintNeeded = true;
+        if (snapshot != null) {
+            drawAll(snapshot);
+        }
+    }
+
+    private void drawAll(WorldSnapshot snapshot) {
+        this.bounds = snapshot.getBounds();
+        fullRepaintNeeded = false;
+        var graphics = getGraphicsContext2D();
+        graphics.setFill(OUTSIDE_COLOR);
+        graphics.fillRect(0, 0, getWidth(), getHeight());
+
+        var viewport = viewport();
+        if (viewport.isEmpty()) {
+            return;
+        }
+        if (cellSize < DETAIL_THRESHOLD) {
+            paintHeatRaster(graphics, snapshot, viewport.get());
+        } else {
+            paintCells(graphics, snapshot, viewport.get());
+        }
+    }
+
+    private void paintCells(GraphicsContext graphics, WorldSnapshot snapshot, Viewport viewport) {
+        paintArea(graphics, viewport, BACKGROUND_COLOR);
+        preferredViewport(viewport).ifPresent(area -> paintArea(graphics, area, PREFERRED_AREA_COLOR));
+        snapshot.forEachPlantCell((column, row) -> {
+            if (viewport.contains(column, row)) {
+                paintCell(graphics, column, row, PLANT_COLOR);
+            }
+        });
+        snapshot.forEachFireCell((column, row) -> {
+            if (viewport.contains(column, row)) {
+                paintCell(graphics, column, row, FIRE_COLOR);
+            }
+        });
+        paintAnimals(graphics, snapshot, viewport);
+        if (cellSize >= GRID_THRESHOLD) {
+            paintGridLines(graphics, viewport);
+        }
+    }
+
+    private void paintCellBackground(GraphicsContext graphics, WorldSnapshot snapshot, Vector2d position, int column,
+                                     int row) {
+        paintCell(graphics, column, row, isInPreferredArea(position) ? PREFERRED_AREA_COLOR : BACKGROUND_COLOR);
+        if (snapshot.isFireAt(position)) {
+            paintCell(graphics, column, row, FIRE_COLOR);
+        } else if (snapshot.isPlantAt(position)) {
+            paintCell(graphics, column, row, PLANT_COLOR);
+        }
+    }
+
+    private void paintAnimals(GraphicsContext graphics, WorldSnapshot snapshot, Viewport viewport) {
+        var selectedIndex = -1;
+        for (int i = 0; i < snapshot.getAnimalCount(); i++) {
+            if (viewport.contains(snapshot.getAnimalColumn(i), snapshot.getAnimalRow(i))
+                    && paintAnimal(graphics, snapshot, i)) {
+                selectedIndex = i;
+            }
+        }
+        paintSelection(graphics, snapshot, selectedIndex);
+    }
+
+    /**
+     * Paints the animals standing in the given visible cells, found through the snapshot's per-cell index, so the
+     * cost depends on the changed cells only.
+     */
+    private void paintAnimalsAt(GraphicsContext graphics, WorldSnapshot snapshot, List<Vector2d> cells) {
+        var selectedIndex = -1;
+        for (var position : cells) {
+            var first = snapshot.firstAnimalIndexAt(position);
+            var end = first + snapshot.animalCountAt(position);
+            for (int i = first; i < end; i++) {
+                if (paintAnimal(graphics, snapshot, i)) {
+                    selectedIndex = i;
+                }
+            }
+        }
+        paintSelection(graphics, snapshot, selectedIndex);
+    }
+
+    /**
+     * @return whether the painted animal is the selected one
+     */
+    private boolean paintAnimal(GraphicsContext graphics, WorldSnapshot snapshot, int index) {
+        paintAnimal(graphics, snapshot.getAnimalColumn(index), snapshot.getAnimalRow(index),
+                snapshot.getAnimalEnergy(index), snapshot.getAnimalGenotype(index));
+        return selectedAnimal != null && selectedAnimal.equals(snapshot.getAnimal(index));
+    }
+
+    private void paintSelection(GraphicsContext graphics, WorldSnapshot snapshot, int selectedIndex) {
+        if (selectedIndex >= 0) {
+            paintBorder(graphics, snapshot.getAnimalColumn(selectedIndex), snapshot.getAnimalRow(selectedIndex),
+                    SELECTED_COLOR);
+        }
+    }
+
+    private void paintHeatRaster(GraphicsContext graphics, WorldSnapshot snapshot, Viewport viewport) {
+        var blockSize = Math.max(1, (int) Math.ceil(1 / cellSize));
+        heatRaster.reset(viewport, blockSize);
+        snapshot.forEachPlantCell(heatRaster::addPlant);
+        snapshot.forEachFireCell(heatRaster::addFire);
+        var selectedIndex = -1;
+        for (int i = 0; i < snapshot.getAnimalCount(); i++) {
+            var highlighted = highlightedGenotype.isPresent()
+                    && highlightedGenotype.getAsLong() == snapshot.getAnimalGenotype(i);
+            heatRaster.addAnimal(snapshot.getAnimalColumn(i), snapshot.getAnimalRow(i), snapshot.getAnimalEnergy(i),
+                    highlighted);
+            if (selectedAnimal != null && selectedAnimal.equals(snapshot.getAnimal(i))) {
+                selectedIndex = i;
+            }
+        }
+
+        var image = heatRaster.paint(preferredViewport(viewport).orElse(null));
+        graphics.setImageSmoothing(false);
+        graphics.drawImage(image, cellX(viewport.firstColumn()), cellY(viewport.firstRow()),
+                heatRaster.width * blockSize * cellSize, heatRaster.height * blockSize * cellSize);
+
+        if (selectedIndex >= 0) {
+            var column = snapshot.getAnimalColumn(selectedIndex);
+            var row = snapshot.getAnimalRow(selectedIndex);
+            if (viewport.contains(column, row)) {
+                // a single cell is too small to see here, so the marker keeps a minimal size
+                var size = Math.max(cellSize, 6);
+                graphics.setStroke(SELECTED_COLOR);
+                graphics.setLineWidth(2);
+                graphics.strokeRect(cellX(column) + (cellSize - size) / 2, cellY(row) + (cellSize - size) / 2,
+                        size, size);
+            }
+        }
+    }
+
+    private boolean hasAnimalAt(Vector2d position) {
+        return snapshot != null && snapshot.animalCountAt(position) > 0;
+    }
+
+    private boolean isInPreferredArea(Vector2d position) {
+        return preferredArea != null
+                && position.follows(preferredArea.leftBottomCorner())
+                && position.precedes(preferredArea.rightTopCorner());
+    }
+
+    /**
+     * The cells visible on the canvas, as columns and rows counted from the left bottom corner of the map.
+     */
+    private Optional<Viewport> viewport() {
+        var firstColumn = Math.max(0, (int) Math.floor(-offsetX / cellSize));
+        var firstRow = Math.max(0, (int) Math.floor(-offsetY / cellSize));
+        var lastColumn = Math.min(columns() - 1, (int) Math.floor((getWidth() - offsetX) / cellSize));
+        var lastRow = Math.min(rows() - 1, (int) Math.floor((getHeight() - offsetY) / cellSize));
+        if (firstColumn > lastColumn || firstRow > lastRow) {
+            return Optional.empty();
+        }
+        return Optional.of(new Viewport(firstColumn, firstRow, lastColumn, lastRow));
+    }
+
+    private Optional<Viewport> preferredViewport(Viewport viewport) {
+        if (preferredArea == null) {
+            return Optional.empty();
+        }
+        var leftBottom = bounds.leftBottomCorner();
+        var firstColumn = Math.max(viewport.firstColumn(), preferredArea.leftBottomCorner().getX() - leftBottom.getX());
+        var firstRow = Math.max(viewport.firstRow(), preferredArea.leftBottomCorner().getY() - leftBottom.getY());
+        var lastColumn = Math.min(viewport.lastColumn(), preferredArea.rightTopCorner().getX() - leftBottom.getX());
+        var lastRow = Math.min(viewport.lastRow(), preferredArea.rightTopCorner().getY() - leftBottom.getY());
+        if (firstColumn > lastColumn || firstRow > lastRow) {
+            return Optional.empty();
+        }
+        return Optional.of(new Viewport(firstColumn, firstRow, lastColumn, lastRow));
+    }
+
+    private int columns() {
+        return bounds.rightTopCorner().getX() - bounds.leftBottomCorner().getX() + 1;
+    }
+
+    private int rows() {
+        return bounds.rightTopCorner().getY() - bounds.leftBottomCorner().getY() + 1;
+    }
+
+    private void paintArea(GraphicsContext graphics, Viewport area, Color color) {
+        graphics.setFill(color);
+        graphics.fillRect(cellX(area.firstColumn()), cellY(area.firstRow()),
+                area.columns() * cellSize, area.rows() * cellSize);
+    }
+
+    private void paintCell(GraphicsContext graphics, int column, int row, Color color) {
+        graphics.setFill(color);
+        graphics.fillRect(cellX(column), cellY(row), cellSize, cellSize);
+    }
+
+    private void paintAnimal(GraphicsContext graphics, int column, int row, int energy, long genotype) {
+        var inset = cellSize * 0.1;
+        graphics.setFill(calculateColor(energy));
+        graphics.fillOval(cellX(column) + inset, cellY(row) + inset, cellSize - 2 * inset, cellSize - 2 * inset);
+        if (highlightedGenotype.isPresent() && highlightedGenotype.getAsLong() == genotype) {
+            paintBorder(graphics, column, row, HIGHLIGHTED_COLOR);
+        }
+    }
+
+    private void paintBorder(GraphicsContext graphics, int column, int row, Color color) {
+        var width = cellSize * 0.15;
+        graphics.setStroke(color);
+        graphics.setLineWidth(width);
+        graphics.strokeRect(cellX(column) + width / 2, cellY(row) + width / 2, cellSize - width, cellSize - width);
+    }
+
+    private void paintGridLines(GraphicsContext graphics, Viewport viewport) {
+        graphics.setStroke(GRID_LINE_COLOR);
+        graphics.setLineWidth(1);
+        var top = cellY(viewport.firstRow());
+        var bottom = cellY(viewport.lastRow() + 1);
+        var left = cellX(viewport.firstColumn());
+        var right = cellX(viewport.lastColumn() + 1);
+        for (int column = viewport.firstColumn(); column <= viewport.lastColumn() + 1; column++) {
+            var x = Math.floor(cellX(column)) + 0.5;
+            graphics.strokeLine(x, top, x, bottom);
+        }
+        for (int row = viewport.firstRow(); row <= viewport.lastRow() + 1; row++) {
+            var y = Math.floor(cellY(row)) + 0.5;
+            graphics.strokeLine(left, y, right, y);
+        }
+    }
+
+    private double cellX(int column) {
+        return offsetX + column * cellSize;
+    }
+
+    private double cellY(int row) {
+        return offsetY + row * cellSize;
+    }
+
+    private static Color calculateColor(int animalEnergy) {
+        return Color.rgb(0, energyGreen(animalEnergy), energyBlue(animalEnergy));
+    }
+
+    private static int energyGreen(int animalEnergy) {
+        return (int) (255 * energyFactor(animalEnergy));
+    }
+
+    private static int energyBlue(int animalEnergy) {
+        return (int) (128 + (127 * energyFactor(animalEnergy)));
+    }
+
+    private static double energyFactor(int animalEnergy) {
+        animalEnergy = Math.max(0, Math.min(animalEnergy, MAX_ENERGY));
+        return 1 - (double) animalEnergy / MAX_ENERGY;
+    }
+
+    private static int argb(Color color) {
+        return 0xff000000
+                | (int) Math.round(color.getRed() * 255) << 16
+                | (int) Math.round(color.getGreen() * 255) << 8
+                | (int) Math.round(color.getBlue() * 255);
+    }
+
+    private static int mix(int from, int to, double amount) {
+        var red = (int) (((from >> 16) & 0xff) * (1 - amount) + ((to >> 16) & 0xff) * amount);
+        var green = (int) (((from >> 8) & 0xff) * (1 - amount) + ((to >> 8) & 0xff) * amount);
+        var blue = (int) ((from & 0xff) * (1 - amount) + (to & 0xff) * amount);
+        return 0xff000000 | red << 16 | green << 8 | blue;
+    }
+
+    private record Viewport(int firstColumn, int firstRow, int lastColumn, int lastRow) {
+        boolean contains(int column, int row) {
+            return column >= firstColumn && column <= lastColumn && row >= firstRow && row <= lastRow;
+        }
+
+        int columns() {
+            return lastColumn - firstColumn + 1;
+        }
+
+        int rows() {
+            return lastRow - firstRow + 1;
+        }
+
+        int cellCount() {
+            return columns() * rows();
+        }
+    }
+
+    /**
+     * Aggregates the visible cells into blocks, one raster pixel each. The buffers and the image are reused between
+     * frames and only grow with the viewport.
+     */
+    private static class HeatRaster {
+        private static final int BACKGROUND = argb(BACKGROUND_COLOR);
+        private static final int PREFERRED_AREA = argb(PREFERRED_AREA_COLOR);
+        private static final int PLANT = argb(PLANT_COLOR);
+        private static final int FIRE = argb(FIRE_COLOR);
+        private static final int HIGHLIGHTED = argb(HIGHLIGHTED_COLOR);
+
+        private Viewport viewport;
+        private int blockSize;
+        private int width;
+        private int height;
+        private int[] animals = new int[0];
+        private int[] energies = new int[0];
+        private int[] plants = new int[0];
+        private boolean[] fires = new boolean[0];
+        private boolean[] highlighted = new boolean[0];
+        private int[] pixels = new int[0];
+        private WritableImage image;
+
+        void reset(Viewport viewport, int blockSize) {
+            this.viewport = viewport;
+            this.blockSize = blockSize;
+            this.width = (viewport.columns() + blockSize - 1) / blockSize;
+            this.height = (viewport.rows() + blockSize - 1) / blockSize;
+            var size = width * height;
+            if (pixels.length < size) {
+                animals = new int[size];
+                energies = new int[size];
+                plants = new int[size];
+                fires = new boolean[size];
+                highlighted = new boolean[size];
+                pixels = new int[size];
+            } else {
+                Arrays.fill(animals, 0, size, 0);
+                Arrays.fill(energies, 0, size, 0);
+                Arrays.fill(plants, 0, size, 0);
+                Arrays.fill(fires, 0, size, false);
+                Arrays.fill(highlighted, 0, size, false);
+            }
+        }
+
+        void addPlant(int column, int row) {
+            if (viewport.contains(column, row)) {
+                plants[block(column, row)]++;
+            }
+        }
+
+        void addFire(int column, int row) {
+            if (viewport.contains(column, row)) {
+                fires[block(column, row)] = true;
+            }
+        }
+
+        void addAnimal(int column, int row, int energy, boolean highlightedGenotype) {
+            if (viewport.contains(column, row)) {
+                var block = block(column, row);
+                animals[block]++;
+                energies[block] += energy;
+                highlighted[block] |= highlightedGenotype;
+            }
+        }
+
+        WritableImage paint(Viewport preferredArea) {
+            var cellsPerBlock = (double) blockSize * blockSize;
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    var block = y * width + x;
+                    int color;
+                    if (animals[block] > 0) {
+                        var energy = energies[block] / animals[block];
+                        var animalColor = highlighted[block]
+                                ? HIGHLIGHTED
+                                : 0xff000000 | energyGreen(energy) << 8 | energyBlue(energy);
+                        color = mix(BACKGROUND, animalColor, 0.4 + 0.6 * Math.min(1, animals[block] / cellsPerBlock));
+                    } else if (fires[block]) {
+                        color = FIRE;
+                    } else if (plants[block] > 0) {
+                        color = mix(BACKGROUND, PLANT, 0.3 + 0.7 * plants[block] / cellsPerBlock);
+                    } else if (preferredArea != null && preferredArea.contains(
+                            viewport.firstColumn() + x * blockSize, viewport.firstRow() + y * blockSize)) {
+                        color = PREFERRED_AREA;
+                    } else {
+                        color = BACKGROUND;
+                    }
+                    pixels[block] = color;
+                }
+            }
+
+            if (image == null || image.getWidth() != width || image.getHeight() != height) {
+                image = new WritableImage(width, height);
+            }
+            image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+            return image;
+        }
+
+        private int block(int column, int row) {
+            return (row - viewport.firstRow()) / blockSize * width + (column - viewport.firstColumn()) / blockSize;
+        }
+    }
+}
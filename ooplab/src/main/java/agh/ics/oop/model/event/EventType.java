@@ -1,9 +0,0 @@
-package agh.ics.oop.model.event;
-
-public enum EventType {
-    ANIMAL_MOVED,
-    ANIMAL_PLACED,
-    PLANT_PLACED,
-    FIRE_PLACED,
-    DAY_ENDS
-}